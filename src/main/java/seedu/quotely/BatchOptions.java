@@ -0,0 +1,101 @@
+package seedu.quotely;
+
+/**
+ * Command line options for running a script of commands non-interactively:
+ * {@code --batch FILE|- [--save-every N] [--abort-on-error]}, where "-" reads the script from standard input.
+ */
+public class BatchOptions {
+    public static final String USAGE = "Usage: java -jar quotely.jar [--batch FILE|- [--save-every N] "
+            + "[--abort-on-error] | --export-json FILE]";
+
+    private static final String BATCH_OPTION = "--batch";
+    private static final String SAVE_EVERY_OPTION = "--save-every";
+    private static final String ABORT_ON_ERROR_OPTION = "--abort-on-error";
+    private static final String STANDARD_INPUT = "-";
+
+    private final String scriptPath;
+    private final int saveInterval;
+    private final boolean isAbortOnError;
+
+    private BatchOptions(String scriptPath, int saveInterval, boolean isAbortOnError) {
+        this.scriptPath = scriptPath;
+        this.saveInterval = saveInterval;
+        this.isAbortOnError = isAbortOnError;
+    }
+
+    /**
+     * Parses the command line arguments.
+     *
+     * @return the batch options, or null if no arguments were given and Quotely should run interactively
+     * @throws IllegalArgumentException if the arguments are not valid batch options
+     */
+    public static BatchOptions parse(String[] args) {
+        if (args.length == 0) {
+            return null;
+        }
+
+        String scriptPath = null;
+        int saveInterval = 0;
+        boolean isAbortOnError = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+            case BATCH_OPTION:
+                scriptPath = valueOf(args, ++i, BATCH_OPTION);
+                break;
+            case SAVE_EVERY_OPTION:
+                saveInterval = parseSaveInterval(valueOf(args, ++i, SAVE_EVERY_OPTION));
+                break;
+            case ABORT_ON_ERROR_OPTION:
+                isAbortOnError = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (scriptPath == null) {
+            throw new IllegalArgumentException(BATCH_OPTION + " is required with the other options");
+        }
+        return new BatchOptions(scriptPath, saveInterval, isAbortOnError);
+    }
+
+    private static String valueOf(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return args[index];
+    }
+
+    private static int parseSaveInterval(String value) {
+        try {
+            int saveInterval = Integer.parseInt(value);
+            if (saveInterval > 0) {
+                return saveInterval;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(SAVE_EVERY_OPTION + " needs a positive number of commands: " + value);
+    }
+
+    /**
+     * Returns true if the script is read from standard input.
+     */
+    public boolean isStandardInput() {
+        return STANDARD_INPUT.equals(scriptPath);
+    }
+
+    public String getScriptPath() {
+        return scriptPath;
+    }
+
+    /**
+     * Returns the number of commands after which the data is saved, or 0 to save only at the end.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public boolean isAbortOnError() {
+        return isAbortOnError;
+    }
+}
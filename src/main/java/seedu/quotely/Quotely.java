@@ -8,11 +8,28 @@ import seedu.quotely.exception.QuotelyException;
 import seedu.quotely.parser.Parser;
 import seedu.quotely.ui.Ui;
 import seedu.quotely.util.LoggerConfig;
+import seedu.quotely.writer.ExportJob;
+import seedu.quotely.writer.ExportQueue;
 
 import seedu.quotely.storage.Storage;
 import seedu.quotely.storage.JsonSerializer;
 import seedu.quotely.storage.ApplicationData;
+import seedu.quotely.storage.Journal;
+import seedu.quotely.storage.JournalEntry;
+import seedu.quotely.storage.PersistenceService;
+import seedu.quotely.storage.SnapshotStore;
+import seedu.quotely.storage.JsonSnapshotStore;
+import seedu.quotely.storage.ShardedSnapshotStore;
+import seedu.quotely.storage.BinarySerializer;
+import seedu.quotely.storage.BinarySnapshotStore;
+import seedu.quotely.storage.StorageConfig;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import java.util.logging.Logger;
 
@@ -21,6 +38,17 @@ public class Quotely {
 
     private static final String DEFAULT_STORAGE_DIRECTORY = "data";
     private static final String DEFAULT_STORAGE_FILENAME = "quotely.json";
+    private static final String DEFAULT_JOURNAL_FILENAME = "quotely.journal";
+    private static final String DEFAULT_SHARD_DIRECTORY = "quotes";
+    private static final String DEFAULT_BINARY_FILENAME = "quotely.bin";
+    // number of journal entries after which the snapshot is rewritten and the journal cleared
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 100;
+    // lines of a batch script starting with this are comments
+    private static final String BATCH_COMMENT_PREFIX = "#";
+    private static final int EXIT_BATCH_FAILED = 1;
+    private static final int EXIT_USAGE = 2;
+    // writes the data to a JSON file in the data/quotely.json format and exits, whatever the storage format
+    private static final String EXPORT_JSON_OPTION = "--export-json";
 
     private Ui ui;
     private CompanyName companyName;
@@ -30,12 +58,18 @@ public class Quotely {
     // Fields for storage
     private Storage storage;
     private JsonSerializer serializer;
+    private SnapshotStore snapshotStore;
+    private Journal journal;
+    private PersistenceService persistence;
+    // data version already covered by the journal, used to skip redundant writes
+    private long journaledVersion;
 
     /**
      * Constructor for Quotely
      * 1) create new ui instance
      * 2) create new CompanyName and set a default company name
-     * 3) initialise storage and load existing data if any
+     * 3) initialise storage and load existing data if any, replaying the journal on top of the snapshot
+     * 4) start the background persistence service, flushed again at JVM shutdown
      */
     public Quotely() {
         ui = Ui.getInstance();
@@ -45,28 +79,57 @@ public class Quotely {
         // Initialize storage and load data
         storage = new Storage(DEFAULT_STORAGE_DIRECTORY, DEFAULT_STORAGE_FILENAME);
         serializer = new JsonSerializer();
+        SnapshotStore jsonStore = new JsonSnapshotStore(storage, serializer);
+        snapshotStore = createSnapshotStore(StorageConfig.load(DEFAULT_STORAGE_DIRECTORY), jsonStore);
+        journal = new Journal(DEFAULT_STORAGE_DIRECTORY, DEFAULT_JOURNAL_FILENAME);
 
-        loadDataFromFile();
+        // Import from the single JSON file once when switching to another format
+        boolean isImporting = snapshotStore != jsonStore && !snapshotStore.exists() && jsonStore.exists();
+        loadDataFromFile(isImporting ? jsonStore : snapshotStore);
 
+        persistence = new PersistenceService(snapshotStore, journal);
+        Runtime.getRuntime().addShutdownHook(new Thread(persistence::shutdown, "quotely-shutdown"));
+        if (isImporting) {
+            logger.info("Imported data from " + jsonStore.getLocation() + " into " + snapshotStore.getLocation());
+            saveDataToFile();
+        }
     }
 
     /**
-     * Loads the QuoteList and CompanyName from the file.
+     * Returns the snapshot store for the configured storage format.
+     */
+    private SnapshotStore createSnapshotStore(StorageConfig config, SnapshotStore jsonStore) {
+        switch (config.getFormat()) {
+        case SHARDED:
+            return new ShardedSnapshotStore(Paths.get(DEFAULT_STORAGE_DIRECTORY, DEFAULT_SHARD_DIRECTORY));
+        case BINARY:
+            return new BinarySnapshotStore(Paths.get(DEFAULT_STORAGE_DIRECTORY, DEFAULT_BINARY_FILENAME),
+                    new BinarySerializer());
+        case JSON:
+        default:
+            return jsonStore;
+        }
+    }
+
+    /**
+     * Loads the QuoteList and CompanyName from the snapshot store, then replays any journal
+     * entries recorded after that snapshot.
      * If the file is not found or is corrupted, initializes with new empty data.
      */
-    private void loadDataFromFile() {
+    private void loadDataFromFile(SnapshotStore source) {
         try {
-            String jsonData = storage.loadData();
-            // Deserialize the wrapper object
-            ApplicationData loadedData = serializer.deserialize(jsonData);
+            ApplicationData loadedData = source.load();
 
             assert loadedData != null : "Deserialization should not return null";
 
+            journal.replay(loadedData);
+
             // Set the class fields from the loaded data
             this.quoteList = loadedData.getQuoteList();
             this.companyName = loadedData.getCompanyName();
 
-            logger.info("Successfully loaded data from " + storage.getDataFilePath());
+            logger.info("Successfully loaded data from " + source.getLocation());
+            markDataPersisted();
 
         } catch (IOException e) {
             logger.warning("Failed to read from data file. " +
@@ -75,35 +138,83 @@ public class Quotely {
             // Initialize both fields on failure
             this.quoteList = new QuoteList();
             this.companyName = new CompanyName("Default");
+            markDataPersisted();
         } catch (Exception e) { // Catches potential JSON syntax errors
             logger.severe("Data file is corrupted. Starting with new data. Error: " + e.getMessage());
             ui.showError("Data file appears to be corrupted. Starting fresh.");
             // Initialize both fields on failure
             this.quoteList = new QuoteList();
             this.companyName = new CompanyName("Default");
+            markDataPersisted();
         }
     }
 
+    /**
+     * Returns a counter that changes whenever any persisted data changes.
+     */
+    private long getDataVersion() {
+        return quoteList.getVersion() + companyName.getVersion();
+    }
+
+    private void markDataPersisted() {
+        journaledVersion = getDataVersion();
+    }
+
     /**
      * Saves the current QuoteList and CompanyName to the file specified in storage.
+     * A copy of the data is handed to the persistence service, which writes it in the background
+     * and clears the journal afterwards.
      */
     private void saveDataToFile() {
         assert quoteList != null : "Cannot save a null QuoteList";
         assert companyName != null : "Cannot save a null CompanyName";
-        assert serializer != null : "Serializer must be initialized to save";
+        assert persistence != null : "Persistence service must be initialized to save";
 
-        try {
-            // Wrap both objects in the container
-            ApplicationData appData = new ApplicationData(quoteList, companyName);
-            // Serialize the wrapper object
-            String jsonData = serializer.serialize(appData);
+        // Wrap copies of both objects so later commands cannot change the snapshot mid-write
+        ApplicationData appData = new ApplicationData(quoteList.copy(),
+                new CompanyName(companyName.getCompanyName()));
+        persistence.saveSnapshot(appData);
+        markDataPersisted();
+        logger.info("Data snapshot queued for " + snapshotStore.getLocation());
+    }
 
-            storage.saveData(jsonData);
-            logger.info("Data saved successfully to " + storage.getDataFilePath());
-        } catch (IOException e) {
-            logger.severe("Failed to save data to file: " + e.getMessage());
+    /**
+     * Shows an error if a background write has failed since the last check.
+     *
+     * @return true if a write had failed
+     */
+    private boolean reportPersistenceFailure() {
+        IOException failure = persistence.takeFailure();
+        if (failure != null) {
+            logger.severe("Failed to save data to file: " + failure.getMessage());
             ui.showError("Error: Failed to save data to file.");
         }
+        return failure != null;
+    }
+
+    /**
+     * Appends the mutation made by the command to the journal, compacting the journal
+     * into a new snapshot once it grows past the threshold.
+     * Nothing is written if the command did not actually change any data.
+     */
+    private void recordCommand(Command command) {
+        assert command.isMutating() : "Only mutating commands should be recorded";
+        long dataVersion = getDataVersion();
+        if (dataVersion == journaledVersion) {
+            logger.fine("Command did not change any data, skipping save");
+            return;
+        }
+
+        JournalEntry entry = command.getJournalEntry();
+        assert entry != null : "Mutating command must describe its change";
+
+        persistence.append(entry);
+        journaledVersion = dataVersion;
+
+        if (persistence.getJournalLength() >= JOURNAL_COMPACTION_THRESHOLD) {
+            logger.info("Journal reached " + persistence.getJournalLength() + " entries, compacting");
+            saveDataToFile();
+        }
     }
 
     public void run() {
@@ -123,18 +234,144 @@ public class Quotely {
                 command.execute(ui, quoteList, companyName, state);
                 isExit = command.isExit();
 
-                // Save data after every successful command that doesn't exit
-                if (!isExit) {
-                    saveDataToFile();
+                // Journal every successful mutation; fold the journal into the snapshot on exit
+                if (command.isMutating()) {
+                    recordCommand(command);
+                } else if (isExit) {
+                    if (persistence.getJournalLength() > 0) {
+                        saveDataToFile();
+                    }
+                    persistence.flush();
                 }
+                reportPersistenceFailure();
 
             } catch (QuotelyException e) {
                 ui.showError(e.getMessage());
                 logger.severe(e.getMessage());
             } finally {
                 ui.showLine();
+                // one write to the console per command
+                ui.flush();
+            }
+        }
+        // let queued PDF exports finish before the JVM stops their daemon thread
+        ExportQueue.getInstance().awaitIdle();
+        persistence.shutdown();
+    }
+
+    /**
+     * Runs the commands of a batch script, one per line, without the welcome message, prompts or separator lines.
+     * Blank lines and lines starting with '#' are skipped, and an exit command ends the script.
+     * Commands are not journaled one by one: the data is saved once at the end, and after every
+     * {@code saveInterval} commands if it is positive. If {@code isAbortOnError} is set, the first failing command
+     * stops the script and every change since the last save is discarded.
+     *
+     * @return the number of commands that failed, counting a failed save as one
+     * @throws IOException if the script cannot be read
+     */
+    public int runBatch(BufferedReader script, int saveInterval, boolean isAbortOnError) throws IOException {
+        int lineNumber = 0;
+        int applied = 0;
+        int failed = 0;
+        String line;
+        try {
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String fullCommand = line.trim();
+                if (fullCommand.isEmpty() || fullCommand.startsWith(BATCH_COMMENT_PREFIX)) {
+                    continue;
+                }
+                try {
+                    Command command = Parser.parse(fullCommand, state, quoteList);
+                    if (command.isExit()) {
+                        break;
+                    }
+                    command.execute(ui, quoteList, companyName, state);
+                    applied++;
+                    if (saveInterval > 0 && applied % saveInterval == 0) {
+                        saveIfChanged();
+                    }
+                } catch (QuotelyException e) {
+                    failed++;
+                    ui.showBatchError(lineNumber, e.getMessage());
+                    logger.warning("Batch command on line " + lineNumber + " failed: " + e.getMessage());
+                    if (isAbortOnError) {
+                        ui.showBatchStatus("Batch aborted at line " + lineNumber
+                                + ", changes since the last save were discarded.");
+                        ExportQueue.getInstance().awaitIdle();
+                        persistence.shutdown();
+                        return failed;
+                    }
+                }
+            }
+        } finally {
+            // anything shown before a failure to read the script still reaches the console
+            ui.flush();
+        }
+
+        saveIfChanged();
+        failed += finishExports();
+        persistence.flush();
+        if (reportPersistenceFailure()) {
+            failed++;
+        }
+        persistence.shutdown();
+        ui.showBatchStatus("Batch finished: " + applied + " commands applied, " + failed + " failed.");
+        return failed;
+    }
+
+    /**
+     * Waits for the PDF exports queued by a batch script and reports the ones that failed.
+     *
+     * @return the number of failed exports
+     */
+    private int finishExports() {
+        ExportQueue exportQueue = ExportQueue.getInstance();
+        exportQueue.awaitIdle();
+        int failed = 0;
+        for (ExportJob job : exportQueue.getJobs()) {
+            if (job.getStatus() == ExportJob.Status.FAILED) {
+                failed++;
+                ui.showBatchStatus("Export of " + job.getName() + " to " + job.getFile().getName() + " failed: "
+                        + job.getFailure());
             }
         }
+        return failed;
+    }
+
+    private void saveIfChanged() {
+        if (getDataVersion() != journaledVersion) {
+            saveDataToFile();
+        }
+    }
+
+    /**
+     * Writes the loaded data, with the journal replayed, to a JSON file in the same format as
+     * {@code data/quotely.json}, then stops the persistence service. Nothing in the configured store is changed.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void exportJson(Path file) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        ApplicationData appData = new ApplicationData(quoteList, companyName);
+        appData.setJournalSequence(journal.getLastSequence());
+        try {
+            new JsonSnapshotStore(new Storage(absoluteFile.getParent().toString(),
+                    absoluteFile.getFileName().toString()), serializer).save(appData);
+            logger.info("Exported data from " + snapshotStore.getLocation() + " to " + absoluteFile);
+        } finally {
+            persistence.shutdown();
+        }
+    }
+
+    /**
+     * Opens the batch script named in the options, with "-" meaning standard input.
+     */
+    private static BufferedReader openScript(BatchOptions options) throws IOException {
+        if (options.isStandardInput()) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(options.getScriptPath()), StandardCharsets.UTF_8);
     }
 
     public static void main(String[] args) {
@@ -144,9 +381,54 @@ public class Quotely {
         logger = LoggerConfig.getLogger(Quotely.class);
         logger.info("Starting Quotely application");
 
+        if (args.length > 0 && EXPORT_JSON_OPTION.equals(args[0])) {
+            if (args.length != 2) {
+                System.err.println(EXPORT_JSON_OPTION + " needs exactly one file");
+                System.err.println(BatchOptions.USAGE);
+                System.exit(EXIT_USAGE);
+                return;
+            }
+            try {
+                new Quotely().exportJson(Paths.get(args[1]));
+            } catch (IOException e) {
+                logger.severe("Failed to export data to JSON: " + e.getMessage());
+                System.err.println("Could not export data to " + args[1] + ": " + e.getMessage());
+                System.exit(EXIT_BATCH_FAILED);
+            }
+            return;
+        }
+
+        BatchOptions batchOptions;
+        try {
+            batchOptions = BatchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(BatchOptions.USAGE);
+            System.exit(EXIT_USAGE);
+            return;
+        }
+
         try {
-            new Quotely().run();
-            logger.info("Quotely application finished successfully");
+            if (batchOptions == null) {
+                new Quotely().run();
+                logger.info("Quotely application finished successfully");
+                return;
+            }
+
+            int failed;
+            try (BufferedReader script = openScript(batchOptions)) {
+                failed = new Quotely().runBatch(script, batchOptions.getSaveInterval(),
+                        batchOptions.isAbortOnError());
+            } catch (IOException e) {
+                logger.severe("Failed to read batch script: " + e.getMessage());
+                System.err.println("Could not read batch script: " + e.getMessage());
+                System.exit(EXIT_USAGE);
+                return;
+            }
+            logger.info("Quotely batch finished with " + failed + " failed commands");
+            if (failed > 0) {
+                System.exit(EXIT_BATCH_FAILED);
+            }
         } catch (Exception e) {
             logger.severe("Quotely application crashed: " + e.getMessage());
             throw e;
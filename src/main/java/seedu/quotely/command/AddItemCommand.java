@@ -6,6 +6,7 @@ import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.Quote;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JournalEntry;
 import seedu.quotely.util.LoggerConfig;
 
 import java.util.logging.Logger;
@@ -52,4 +53,14 @@ public class AddItemCommand extends Command {
                 "Successfully added item %s to quote %s",
                 itemName, quote.getQuoteName()));
     }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public JournalEntry getJournalEntry() {
+        return JournalEntry.addItem(quote.getQuoteName(), itemName, price, quantity, taxRate);
+    }
 }
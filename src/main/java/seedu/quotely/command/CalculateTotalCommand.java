@@ -5,6 +5,7 @@ import seedu.quotely.data.CompanyName;
 import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.Quote;
+import seedu.quotely.data.Money;
 import seedu.quotely.exception.QuotelyException;
 import seedu.quotely.util.LoggerConfig;
 
@@ -38,7 +39,7 @@ public class CalculateTotalCommand extends Command {
 
         logger.fine("Executing CalculateTotalCommand");
         ui.showMessage(
-                String.format("Total cost of quote %s for %s: $%.2f", quote.getQuoteName(),
-                        quote.getCustomerName(), quote.getQuoteTotal()));
+                String.format("Total cost of quote %s for %s: $%s", quote.getQuoteName(),
+                        quote.getCustomerName(), Money.format(quote.getTotalCents())));
     }
 }
@@ -5,6 +5,7 @@ import seedu.quotely.data.CompanyName;
 import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JournalEntry;
 
 public abstract class Command {
     protected String commandWord;
@@ -21,4 +22,20 @@ public abstract class Command {
     public boolean isExit() {
         return false;
     }
+
+    /**
+     * Returns true if this command may change persisted data (quotes, items or the company name).
+     * Read-only commands return false and never trigger a save.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
+    /**
+     * Returns the journal record describing the data mutation made by this command,
+     * or null if the command does not change any persisted data.
+     */
+    public JournalEntry getJournalEntry() {
+        return null;
+    }
 }
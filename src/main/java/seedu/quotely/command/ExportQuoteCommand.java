@@ -7,20 +7,38 @@ import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.Quote;
 import seedu.quotely.exception.QuotelyException;
 import seedu.quotely.util.LoggerConfig;
+import seedu.quotely.writer.ExportJob;
+import seedu.quotely.writer.ExportQueue;
 import seedu.quotely.writer.PDFWriter;
 
+import java.io.File;
 import java.util.logging.Logger;
 
+/**
+ * Queues an export of a quote to a PDF file. The file is written in the background by the {@link ExportQueue},
+ * so the prompt returns straight away; the {@code jobs} command shows how the export went.
+ * Unless forced, the export is skipped if the file was already exported from the same quote.
+ */
 public class ExportQuoteCommand extends Command {
     private static final String COMMAND_WORD = "export";
     private static final Logger logger = LoggerConfig.getLogger(ExportQuoteCommand.class);
     private Quote quote;
     private String filename;
+    private boolean isForced;
 
     public ExportQuoteCommand(Quote quote, String filename) {
+        this(quote, filename, false);
+    }
+
+    public ExportQuoteCommand(Quote quote, String filename, boolean isForced) {
         super(COMMAND_WORD);
         this.quote = quote;
         this.filename = filename;
+        this.isForced = isForced;
+    }
+
+    public boolean isForced() {
+        return isForced;
     }
 
     @Override
@@ -30,8 +48,11 @@ public class ExportQuoteCommand extends Command {
                         QuotelyState state) throws QuotelyException {
 
         logger.fine(String.format("Executing ExportQuoteCommand of quote %s to %s", quote.getQuoteName(), filename));
-        PDFWriter pdfWriter = PDFWriter.getInstance();
-        pdfWriter.writeQuoteToPDF(quote, companyName, filename);
-        logger.fine(String.format("Successfully export quote: %s to %s.pdf", quote.getQuoteName(), filename));
+        File file = new File(PDFWriter.getInstance().getSecureFilename(filename));
+        ExportJob job = ExportQueue.getInstance().submit(quote, companyName, file, isForced);
+        ui.showMessage("Exporting quote: " + quote.getQuoteName() + " to " + file.getName()
+                + " in the background (job " + job.getId() + "). Use `jobs` to check on it.");
+        logger.fine(String.format("Queued export of quote %s to %s as job %d", quote.getQuoteName(),
+                file.getName(), job.getId()));
     }
 }
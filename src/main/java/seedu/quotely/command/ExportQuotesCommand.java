@@ -0,0 +1,170 @@
+package seedu.quotely.command;
+
+import seedu.quotely.ui.Ui;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+import seedu.quotely.writer.PDFWriter;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Exports every quote, or every quote matching a search term, to its own PDF file.
+ *
+ * <p>The PDFs are written concurrently by a pool with one thread per available core. Each task builds its own
+ * document and only the command's thread talks to the Ui, reporting progress as tasks finish. The command waits
+ * for every task before returning, so no quote can change while it is being written.
+ * Unless forced, quotes whose files were already exported from the same content are skipped.
+ */
+public class ExportQuotesCommand extends Command {
+    private static final String COMMAND_WORD = "export";
+    private static final Logger logger = LoggerConfig.getLogger(ExportQuotesCommand.class);
+    // progress is reported after this many finished exports, besides every failure
+    private static final int PROGRESS_INTERVAL = 25;
+
+    private final String searchTerm;
+    private final boolean isForced;
+    private final File directory;
+
+    /**
+     * Constructs a command that exports to the current directory.
+     *
+     * @param searchTerm the term quotes must match, or null to export every quote
+     * @param isForced true to write every file even if it is up to date
+     */
+    public ExportQuotesCommand(String searchTerm, boolean isForced) {
+        this(searchTerm, isForced, new File("."));
+    }
+
+    ExportQuotesCommand(String searchTerm, boolean isForced, File directory) {
+        super(COMMAND_WORD);
+        this.searchTerm = searchTerm;
+        this.isForced = isForced;
+        this.directory = directory;
+    }
+
+    public String getSearchTerm() {
+        return searchTerm;
+    }
+
+    public boolean isForced() {
+        return isForced;
+    }
+
+    @Override
+    public void execute(Ui ui,
+                        QuoteList quoteList,
+                        CompanyName companyName,
+                        QuotelyState state) throws QuotelyException {
+        logger.fine("Executing ExportQuotesCommand for: " + (searchTerm == null ? "all quotes" : searchTerm));
+
+        List<Quote> quotes = searchTerm == null ? quoteList.getQuotes() : quoteList.searchQuote(searchTerm);
+        if (quotes.isEmpty()) {
+            ui.showMessage(searchTerm == null ? "There are no quotes to export." : "No matching quote found");
+            return;
+        }
+
+        int threadCount = Math.min(quotes.size(), Runtime.getRuntime().availableProcessors());
+        ui.showMessage("Exporting " + quotes.size() + " quote(s) using " + threadCount + " thread(s)...");
+        ui.flush();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        try {
+            CompletionService<Boolean> exports = new ExecutorCompletionService<>(pool);
+            List<String> filenames = getFilenames(quotes);
+            PDFWriter pdfWriter = PDFWriter.getInstance();
+            for (int i = 0; i < quotes.size(); i++) {
+                Quote quote = quotes.get(i);
+                File file = new File(directory, filenames.get(i));
+                exports.submit(() -> {
+                    try {
+                        return pdfWriter.exportQuote(quote, companyName, file, isForced);
+                    } catch (QuotelyException e) {
+                        throw new ExportException(quote.getQuoteName() + ": " + e.getMessage(), e);
+                    }
+                });
+            }
+            reportProgress(ui, exports, quotes.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for every export, showing each failure and a progress line every few exports.
+     */
+    private void reportProgress(Ui ui, CompletionService<Boolean> exports, int total) {
+        int done = 0;
+        int skipped = 0;
+        int failed = 0;
+        try {
+            for (int i = 0; i < total; i++) {
+                try {
+                    if (!exports.take().get()) {
+                        skipped++;
+                    }
+                } catch (ExecutionException e) {
+                    failed++;
+                    logger.warning("Failed to export quote " + e.getCause().getMessage());
+                    ui.showMessage("Failed to export quote " + e.getCause().getMessage());
+                }
+                done++;
+                if (done % PROGRESS_INTERVAL == 0 && done < total) {
+                    ui.showMessage("Exported " + done + " of " + total + " quotes...");
+                    ui.flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while exporting quotes");
+            ui.showMessage("Export interrupted after " + done + " of " + total + " quotes.");
+            return;
+        }
+        int exported = total - skipped - failed;
+        logger.info("Exported " + exported + " of " + total + " quotes, " + skipped + " unchanged");
+        ui.showMessage("Exported " + exported + " of " + total + " quotes to PDF, " + skipped + " unchanged, "
+                + failed + " failed.");
+    }
+
+    /**
+     * Returns the file name of each quote, numbering any names that would clash once made safe for the file system.
+     */
+    private static List<String> getFilenames(List<Quote> quotes) {
+        PDFWriter pdfWriter = PDFWriter.getInstance();
+        Set<String> used = new HashSet<>();
+        List<String> filenames = new ArrayList<>(quotes.size());
+        for (Quote quote : quotes) {
+            String filename = pdfWriter.getSecureFilename(quote.getQuoteName());
+            for (int n = 2; !used.add(filename.toLowerCase(Locale.ROOT)); n++) {
+                filename = pdfWriter.getSecureFilename(quote.getQuoteName() + "_" + n);
+            }
+            filenames.add(filename);
+        }
+        return filenames;
+    }
+
+    /**
+     * Carries the name of the quote whose export failed back to the command's thread.
+     */
+    private static class ExportException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        ExportException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
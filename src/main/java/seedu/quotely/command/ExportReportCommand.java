@@ -0,0 +1,76 @@
+package seedu.quotely.command;
+
+import seedu.quotely.ui.Ui;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+import seedu.quotely.writer.ExportJob;
+import seedu.quotely.writer.ExportQueue;
+import seedu.quotely.writer.PDFWriter;
+
+import java.io.File;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Queues an export of every quote, or every quote matching a search term, into one combined PDF report.
+ * Each quote gets its own pages and a summary of all of them closes the report. The file is written in the
+ * background by the {@link ExportQueue}; the {@code jobs} command shows how the export went.
+ * Unless forced, the export is skipped if the file was already exported from the same quotes.
+ */
+public class ExportReportCommand extends Command {
+    private static final String COMMAND_WORD = "export";
+    private static final Logger logger = LoggerConfig.getLogger(ExportReportCommand.class);
+
+    private final String searchTerm;
+    private final String filename;
+    private final boolean isForced;
+
+    /**
+     * @param searchTerm the term quotes must match, or null to export every quote
+     * @param filename the name of the report, without extension
+     * @param isForced true to write the file even if it is up to date
+     */
+    public ExportReportCommand(String searchTerm, String filename, boolean isForced) {
+        super(COMMAND_WORD);
+        this.searchTerm = searchTerm;
+        this.filename = filename;
+        this.isForced = isForced;
+    }
+
+    public String getSearchTerm() {
+        return searchTerm;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public boolean isForced() {
+        return isForced;
+    }
+
+    @Override
+    public void execute(Ui ui,
+                        QuoteList quoteList,
+                        CompanyName companyName,
+                        QuotelyState state) throws QuotelyException {
+        logger.fine("Executing ExportReportCommand for: " + (searchTerm == null ? "all quotes" : searchTerm));
+
+        List<Quote> quotes = searchTerm == null ? quoteList.getQuotes() : quoteList.searchQuote(searchTerm);
+        if (quotes.isEmpty()) {
+            ui.showMessage(searchTerm == null ? "There are no quotes to export." : "No matching quote found");
+            return;
+        }
+
+        File file = new File(PDFWriter.getInstance().getSecureFilename(filename));
+        ExportJob job = ExportQueue.getInstance().submitReport(quotes, companyName, file, isForced);
+        ui.showMessage("Exporting a report of " + quotes.size() + " quote(s) to " + file.getName()
+                + " in the background (job " + job.getId() + "). Use `jobs` to check on it.");
+        logger.fine(String.format("Queued report of %d quotes to %s as job %d", quotes.size(),
+                file.getName(), job.getId()));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.quotely.command;
+
+import seedu.quotely.ui.Ui;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+import seedu.quotely.writer.ExportJob;
+import seedu.quotely.writer.ExportQueue;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Lists the PDF exports queued in the background with their status and timings.
+ */
+public class JobsCommand extends Command {
+    private static final String COMMAND_WORD = "jobs";
+    private static final Logger logger = LoggerConfig.getLogger(JobsCommand.class);
+
+    public JobsCommand() {
+        super(COMMAND_WORD);
+    }
+
+    @Override
+    public void execute(Ui ui,
+                        QuoteList quoteList,
+                        CompanyName companyName,
+                        QuotelyState state) throws QuotelyException {
+        logger.fine("Executing JobsCommand");
+        List<ExportJob> jobs = ExportQueue.getInstance().getJobs();
+        if (jobs.isEmpty()) {
+            ui.showMessage("There are no export jobs.");
+            return;
+        }
+        ui.showMessage("Export jobs:");
+        for (ExportJob job : jobs) {
+            ui.showMessage(describe(job));
+        }
+    }
+
+    /**
+     * Returns a line such as "#2 quote1 -> quote1.pdf: done in 120 ms (queued 5 ms)".
+     */
+    static String describe(ExportJob job) {
+        String prefix = "#" + job.getId() + " " + job.getName() + " -> " + job.getFile().getName() + ": ";
+        switch (job.getStatus()) {
+        case PENDING:
+            return prefix + "pending for " + job.getWaitMillis() + " ms";
+        case RUNNING:
+            return prefix + "running for " + job.getRunMillis() + " ms (queued " + job.getWaitMillis() + " ms)";
+        case DONE:
+            return prefix + "done in " + job.getRunMillis() + " ms (queued " + job.getWaitMillis() + " ms)";
+        case SKIPPED:
+            return prefix + "unchanged, skipped (queued " + job.getWaitMillis() + " ms)";
+        default:
+            return prefix + "failed after " + job.getRunMillis() + " ms: " + job.getFailure();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import seedu.quotely.ui.Ui;
 import seedu.quotely.util.LoggerConfig;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 public class SearchQuoteCommand extends Command {
@@ -32,6 +33,10 @@ public class SearchQuoteCommand extends Command {
             ArrayList<Quote> searchFoundQuotes = quoteList.searchQuote(quoteName);
             if (searchFoundQuotes.isEmpty()) {
                 ui.showMessage("No matching quote found");
+                List<String> suggestions = quoteList.suggestQuoteNames(quoteName);
+                if (!suggestions.isEmpty()) {
+                    ui.showMessage("Did you mean: " + String.join(", ", suggestions) + "?");
+                }
                 logger.info("SearchQuoteCommand executed with no matching quote found");
                 return;
             }
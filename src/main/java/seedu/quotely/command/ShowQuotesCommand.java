@@ -11,12 +11,41 @@ import seedu.quotely.util.LoggerConfig;
 import java.util.List;
 import java.util.logging.Logger;
 
+/**
+ * Shows the quotes, either as full boxed tables or as one summary line each, optionally one page at a time.
+ * Only the quotes on the requested page are rendered.
+ */
 public class ShowQuotesCommand extends Command {
     private static final String COMMAND_WORD = "show";
     private static final Logger logger = LoggerConfig.getLogger(ShowQuotesCommand.class);
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final boolean isSummary;
+    private final int page;
+    private final int pageSize;
 
     public ShowQuotesCommand() {
+        this(false, 0, 0);
+    }
+
+    /**
+     * Constructs a show command.
+     *
+     * @param isSummary true to show one line per quote instead of the full table
+     * @param page the page to show, starting from 1, or 0 to show every quote unless a page size is given
+     * @param pageSize the number of quotes per page, or 0 for the default page size if a page is given
+     */
+    public ShowQuotesCommand(boolean isSummary, int page, int pageSize) {
         super(COMMAND_WORD);
+        assert page >= 0 && pageSize >= 0 : "Page and page size cannot be negative";
+        this.isSummary = isSummary;
+        if (page == 0 && pageSize == 0) {
+            this.page = 0;
+            this.pageSize = 0;
+        } else {
+            this.page = Math.max(page, 1);
+            this.pageSize = pageSize > 0 ? pageSize : DEFAULT_PAGE_SIZE;
+        }
     }
 
     @Override
@@ -34,10 +63,42 @@ public class ShowQuotesCommand extends Command {
             return;
         }
 
-        ui.showMessage("Displaying all quotes:\n");
+        int from = 0;
+        int to = quotes.size();
+        if (page == 0) {
+            ui.showMessage("Displaying all quotes:\n");
+        } else {
+            // in long, as page and pageSize can each be as large as Integer.MAX_VALUE
+            int pageCount = (int) ((quotes.size() + (long) pageSize - 1) / pageSize);
+            if (page > pageCount) {
+                logger.warning("Requested page " + page + " of " + pageCount);
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_PAGE, String.valueOf(pageCount));
+            }
+            from = (int) ((page - 1L) * pageSize);
+            to = (int) Math.min((long) from + pageSize, quotes.size());
+            ui.showMessage(String.format("Displaying quotes %d-%d of %d (page %d of %d):%n",
+                    from + 1, to, quotes.size(), page, pageCount));
+        }
+
         logger.finer("ShowQuoteCommand executed with quotes");
-        for (Quote q : quotes) {
-            ui.showQuote(companyName, q);
+        for (int i = from; i < to; i++) {
+            if (isSummary) {
+                ui.showQuoteSummary(i + 1, quotes.get(i));
+            } else {
+                ui.showQuote(companyName, quotes.get(i));
+            }
         }
     }
+
+    public boolean isSummary() {
+        return isSummary;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
 }
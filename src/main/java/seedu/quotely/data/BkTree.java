@@ -0,0 +1,144 @@
+package seedu.quotely.data;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Burkhard-Keller tree over strings under Levenshtein distance, used to find the names closest to a
+ * mistyped one without comparing against every name.
+ *
+ * <p>Each child hangs off its parent at its exact distance from the parent, so by the triangle inequality
+ * a search within distance {@code d} of the query only needs to visit children whose edge lies within
+ * {@code d} of the query's distance to the parent. Removed keys stay in the tree as tombstones to keep
+ * it connected; the owner rebuilds the tree once they make up most of it.
+ */
+class BkTree {
+    private Node root;
+    private int size = 0;
+    private int removed = 0;
+
+    private static class Node {
+        private final String key;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private boolean isRemoved = false;
+
+        Node(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Adds a key, or brings back one that was removed. Adding a key already present does nothing.
+     */
+    void add(String key) {
+        if (root == null) {
+            root = new Node(key);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    removed--;
+                    size++;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(key));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    void remove(String key) {
+        Node node = root;
+        while (node != null) {
+            int distance = distance(key, node.key);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    node.isRemoved = true;
+                    removed++;
+                    size--;
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns true once removed keys outnumber the keys still in the tree.
+     */
+    boolean needsRebuild() {
+        return removed > size;
+    }
+
+    /**
+     * Returns up to {@code limit} keys within {@code maxDistance} of the query, closest first
+     * and alphabetically among keys at the same distance.
+     */
+    List<String> closest(String query, int maxDistance, int limit) {
+        List<Map.Entry<String, Integer>> matches = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.key);
+            if (distance <= maxDistance && !node.isRemoved) {
+                matches.add(Map.entry(node.key, distance));
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+
+        matches.sort(Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i).getKey());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two strings: the fewest single-character insertions,
+     * deletions and substitutions that turn one into the other.
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
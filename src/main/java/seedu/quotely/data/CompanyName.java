@@ -1,7 +1,11 @@
 package seedu.quotely.data;
 
+import java.util.Objects;
+
 public class CompanyName {
     private String companyName;
+    // bumped whenever the name changes; not persisted
+    private transient long version;
 
     public CompanyName(String companyName) {
         this.companyName = companyName;
@@ -12,6 +16,16 @@ public class CompanyName {
     }
 
     public void setCompanyName(String companyName) {
+        if (!Objects.equals(companyName, this.companyName)) {
+            version++;
+        }
         this.companyName = companyName;
     }
+
+    /**
+     * Returns a counter that changes whenever the company name changes.
+     */
+    public long getVersion() {
+        return version;
+    }
 }
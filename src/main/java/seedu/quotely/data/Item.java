@@ -1,16 +1,32 @@
 package seedu.quotely.data;
 
+/**
+ * A line of a quote. The unit price is held in cents and the tax rate in basis points (see {@link Money});
+ * the {@code double} accessors convert at the boundary.
+ */
 public class Item {
     private String itemName;
-    private double price;
+    private long priceCents;
     private int quantity;
-    private double taxRate;
+    private long taxRateBasisPoints;
+    // quote whose running totals include this item; not persisted
+    private transient Quote owner;
 
     public Item(String itemName, double price, int quantity, double taxRate) {
         this.itemName = itemName;
-        this.price = price;
+        this.priceCents = Money.toCents(price);
         this.quantity = quantity;
-        this.taxRate = taxRate;
+        this.taxRateBasisPoints = Money.toBasisPoints(taxRate);
+    }
+
+    /**
+     * Creates an item from a unit price in cents and a tax rate in basis points.
+     */
+    public static Item ofCents(String itemName, long priceCents, int quantity, long taxRateBasisPoints) {
+        Item item = new Item(itemName, 0, quantity, 0);
+        item.priceCents = priceCents;
+        item.taxRateBasisPoints = taxRateBasisPoints;
+        return item;
     }
 
     public String getItemName() {
@@ -26,11 +42,18 @@ public class Item {
     }
 
     public double getPrice() {
-        return price;
+        return Money.toDollars(priceCents);
+    }
+
+    public long getPriceCents() {
+        return priceCents;
     }
 
     public void setPrice(double price) {
-        this.price = price;
+        long newPriceCents = Money.toCents(price);
+        beforeChange();
+        this.priceCents = newPriceCents;
+        afterChange();
     }
 
     public int getQuantity() {
@@ -38,33 +61,69 @@ public class Item {
     }
 
     public void setQuantity(int quantity) {
+        beforeChange();
         this.quantity = quantity;
+        afterChange();
     }
 
     public boolean hasTax() {
-        return taxRate > 0;
+        return taxRateBasisPoints > 0;
     }
 
     public double getTaxRate() {
-        return taxRate;
+        return Money.toPercent(taxRateBasisPoints);
+    }
+
+    public long getTaxRateBasisPoints() {
+        return taxRateBasisPoints;
     }
 
     public void setTax(double taxRate) {
-        this.taxRate = taxRate;
+        long newTaxRateBasisPoints = Money.toBasisPoints(taxRate);
+        beforeChange();
+        this.taxRateBasisPoints = newTaxRateBasisPoints;
+        afterChange();
+    }
+
+    void setOwner(Quote owner) {
+        this.owner = owner;
+    }
+
+    private void beforeChange() {
+        if (owner != null) {
+            owner.removeFromTotals(this);
+        }
+    }
+
+    private void afterChange() {
+        if (owner != null) {
+            owner.itemModified(this);
+        }
     }
 
     public double getItemTotalPriceWithoutTax() {
-        return quantity * price;
+        return Money.toDollars(getSubtotalCents());
     }
 
     public double getItemTotalTax() {
-        return quantity * price * taxRate / 100.0;
+        return Money.toDollars(getTaxCents());
+    }
+
+    public long getSubtotalCents() {
+        return Money.multiply(priceCents, quantity);
+    }
+
+    /**
+     * Returns the tax on this line, rounded to the nearest cent.
+     */
+    public long getTaxCents() {
+        return Money.tax(getSubtotalCents(), taxRateBasisPoints);
     }
 
     public boolean isValid() {
         return itemName != null && !itemName.trim().isEmpty()
-                && price >= 0
+                && priceCents >= 0
                 && quantity > 0
-                && taxRate >= 0;
+                && taxRateBasisPoints >= 0;
     }
 }
@@ -0,0 +1,123 @@
+package seedu.quotely.data;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The items of a quote, in the order they were added, indexed by item name.
+ *
+ * <p>Removing an item by name leaves an empty slot instead of shifting the items after it.
+ * Empty slots are squeezed out the next time an item is read by position, so a run of removals
+ * costs one pass over the list rather than one pass per removal.
+ * Item names are indexed when the item is added; renaming an item in the list is not supported.
+ */
+public class ItemList extends AbstractList<Item> {
+    private static final int MIN_SLOTS_TO_COMPACT = 16;
+
+    // live items and null slots left by removals, in display order
+    private final List<Item> slots = new ArrayList<>();
+    // item name -> slots holding an item of that name, in ascending order
+    private final Map<String, Deque<Integer>> positions = new HashMap<>();
+    private int size = 0;
+
+    public ItemList() {
+    }
+
+    public ItemList(Collection<Item> items) {
+        for (Item item : items) {
+            add(item);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Item get(int index) {
+        Objects.checkIndex(index, size);
+        compact();
+        return slots.get(index);
+    }
+
+    @Override
+    public boolean add(Item item) {
+        assert item != null : "Item cannot be null";
+        positions.computeIfAbsent(item.getItemName(), name -> new ArrayDeque<>()).addLast(slots.size());
+        slots.add(item);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Item remove(int index) {
+        // get() compacts, so the index is also the item's slot
+        Item item = get(index);
+        Deque<Integer> slotsOfName = positions.get(item.getItemName());
+        slotsOfName.remove(Integer.valueOf(index));
+        removeSlot(item.getItemName(), slotsOfName, index);
+        return item;
+    }
+
+    /**
+     * Returns true if an item with exactly this name is in the list.
+     */
+    public boolean containsName(String itemName) {
+        return positions.containsKey(itemName);
+    }
+
+    /**
+     * Removes the first item with exactly this name without shifting the items after it.
+     *
+     * @return the removed item, or null if there is no item with that name
+     */
+    public Item removeByName(String itemName) {
+        Deque<Integer> slotsOfName = positions.get(itemName);
+        if (slotsOfName == null) {
+            return null;
+        }
+        int slot = slotsOfName.removeFirst();
+        return removeSlot(itemName, slotsOfName, slot);
+    }
+
+    /**
+     * Empties a slot already taken out of the name's slots.
+     */
+    private Item removeSlot(String itemName, Deque<Integer> slotsOfName, int slot) {
+        if (slotsOfName.isEmpty()) {
+            positions.remove(itemName);
+        }
+        Item removed = slots.set(slot, null);
+        size--;
+        modCount++;
+
+        // keep the memory held by empty slots proportional to the number of items
+        if (slots.size() >= MIN_SLOTS_TO_COMPACT && slots.size() > 2 * size) {
+            compact();
+        }
+        return removed;
+    }
+
+    /**
+     * Squeezes out the empty slots left by removals and renumbers the name index.
+     */
+    private void compact() {
+        if (slots.size() == size) {
+            return;
+        }
+        slots.removeIf(Objects::isNull);
+        positions.clear();
+        for (int i = 0; i < slots.size(); i++) {
+            positions.computeIfAbsent(slots.get(i).getItemName(), name -> new ArrayDeque<>()).addLast(i);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.quotely.data;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point helpers for money held as a {@code long} number of cents,
+ * and for tax rates held as a {@code long} number of basis points (hundredths of a percent).
+ *
+ * <p>All arithmetic works on primitives and allocates nothing; only conversion from a
+ * {@code double} at the input boundary and formatting create objects.
+ */
+public final class Money {
+    public static final long CENTS_PER_DOLLAR = 100;
+    public static final long BASIS_POINTS_PER_PERCENT = 100;
+
+    // a tax amount in cents is amount * basisPoints / (100 percent * 100 basis points per percent)
+    private static final long TAX_DIVISOR = 100 * BASIS_POINTS_PER_PERCENT;
+
+    private Money() {
+    }
+
+    /**
+     * Converts a dollar amount to cents, rounding half up as {@code String.format("%.2f")} would.
+     *
+     * @throws IllegalArgumentException if the amount is NaN or infinite
+     */
+    public static long toCents(double dollars) {
+        return toHundredths(dollars);
+    }
+
+    /**
+     * Converts a percentage (e.g. 9.0 for 9%) to basis points, rounding half up.
+     *
+     * @throws IllegalArgumentException if the rate is NaN or infinite
+     */
+    public static long toBasisPoints(double percent) {
+        return toHundredths(percent);
+    }
+
+    public static double toDollars(long cents) {
+        return cents / (double) CENTS_PER_DOLLAR;
+    }
+
+    public static double toPercent(long basisPoints) {
+        return basisPoints / (double) BASIS_POINTS_PER_PERCENT;
+    }
+
+    /**
+     * Returns the cost of {@code quantity} units at {@code unitCents} each.
+     */
+    public static long multiply(long unitCents, int quantity) {
+        return Math.multiplyExact(unitCents, (long) quantity);
+    }
+
+    /**
+     * Returns the tax on an amount at the given rate, rounded half up to the nearest cent.
+     */
+    public static long tax(long cents, long basisPoints) {
+        long scaled = Math.multiplyExact(cents, basisPoints);
+        long half = TAX_DIVISOR / 2;
+        return scaled >= 0 ? (scaled + half) / TAX_DIVISOR : -((-scaled + half) / TAX_DIVISOR);
+    }
+
+    /**
+     * Formats cents as a plain amount with two decimals (e.g. 123456 as "1234.56"), without a currency sign.
+     */
+    public static String format(long cents) {
+        return appendTo(new StringBuilder(20), cents).toString();
+    }
+
+    /**
+     * Formats basis points as a percentage with two decimals (e.g. 900 as "9.00"), without a percent sign.
+     */
+    public static String formatPercent(long basisPoints) {
+        return format(basisPoints);
+    }
+
+    /**
+     * Appends a value held in hundredths with two decimals (e.g. 5 as "0.05") to the builder.
+     */
+    public static StringBuilder appendTo(StringBuilder sb, long hundredths) {
+        long whole = hundredths / 100;
+        int fraction = (int) Math.abs(hundredths % 100);
+        if (hundredths < 0 && whole == 0) {
+            sb.append('-');
+        }
+        sb.append(whole).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction);
+    }
+
+    private static long toHundredths(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Amount must be a finite number: " + value);
+        }
+        // valueOf uses the shortest decimal representation, so 1.005 rounds up like %.2f does
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
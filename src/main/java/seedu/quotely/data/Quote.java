@@ -1,18 +1,31 @@
 package seedu.quotely.data;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import seedu.quotely.exception.QuotelyException;
 
 public class Quote {
+    // source of quote versions, unique across all quotes so a version identifies one state of one quote
+    private static final AtomicLong VERSION_COUNTER = new AtomicLong();
+
     private String quoteName;
     private String customerName;
-    private List<Item> items = new ArrayList<>();
+    private List<Item> items = new ItemList();
+    // replaced on every change to this quote; not persisted, so quotes loaded from disk start at 0
+    private transient long version;
+    private transient QuoteList owner;
+    // running sums in cents over the items, updated on every item change; not persisted, so recomputed after loading
+    private transient long subtotalCents;
+    private transient long taxCents;
+    private transient boolean hasTotals;
 
     public Quote(String quoteName, String customerName) {
         this.customerName = customerName;
         this.quoteName = quoteName;
+        this.version = VERSION_COUNTER.incrementAndGet();
+        this.hasTotals = true;
     }
 
     public String getQuoteName() {
@@ -23,58 +36,154 @@ public class Quote {
         return customerName;
     }
 
+    /**
+     * Returns a read-only view of the items; use {@link #addItem} and {@link #removeItem} to change them,
+     * so the running totals and version stay up to date.
+     */
     public List<Item> getItems() {
-        return items;
+        return Collections.unmodifiableList(items);
     }
 
-    public double getQuoteTotalPriceWithoutTax() {
-        double quoteTotalPriceWithoutTax = 0;
-        for(Item item : items) {
-            quoteTotalPriceWithoutTax += item.getItemTotalPriceWithoutTax();
+    /**
+     * Returns a version that changes whenever this quote is modified.
+     * No two quotes created or modified in the same session share a version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    void setOwner(QuoteList owner) {
+        this.owner = owner;
+    }
+
+    private void markModified() {
+        version = VERSION_COUNTER.incrementAndGet();
+        if (owner != null) {
+            owner.markModified();
         }
-        return quoteTotalPriceWithoutTax;
+    }
+
+    public double getQuoteTotalPriceWithoutTax() {
+        return Money.toDollars(getSubtotalCents());
     }
 
     public double getQuoteTotalTax() {
-        double quoteTotalTax = 0;
-        for(Item item : items) {
-            quoteTotalTax += item.getItemTotalTax();
-        }
-        return quoteTotalTax;
+        return Money.toDollars(getTaxCents());
     }
 
     public double getQuoteTotal()  {
-        double quoteTotal = this.getQuoteTotalPriceWithoutTax() + this.getQuoteTotalTax();
-        return Math.round(quoteTotal * 100.0) / 100.0;
+        return Money.toDollars(getTotalCents());
+    }
+
+    public long getSubtotalCents() {
+        ensureTotals();
+        return subtotalCents;
+    }
+
+    /**
+     * Returns the sum of the tax on each line, each rounded to the nearest cent.
+     */
+    public long getTaxCents() {
+        ensureTotals();
+        return taxCents;
+    }
+
+    public long getTotalCents() {
+        ensureTotals();
+        return subtotalCents + taxCents;
     }
 
     public void removeItem(String itemName) throws QuotelyException {
-        int index = getItemIndex(itemName);
-        items.remove(index);
+        ensureTotals();
+        Item removed = getItemList().removeByName(itemName);
+        if (removed == null) {
+            throw new QuotelyException(QuotelyException.ErrorType.ITEM_NOT_FOUND);
+        }
+        removed.setOwner(null);
+        removeFromTotals(removed);
+        if (owner != null) {
+            owner.itemRemoved(this, removed);
+        }
+        markModified();
     }
 
     public void addItem(String itemName, double price, int quantity, double taxRate) {
-        items.add(new Item(itemName, price, quantity, taxRate));
+        addItem(new Item(itemName, price, quantity, taxRate));
     }
 
-    private int getItemIndex(String itemName) throws QuotelyException {
-        int index = 0;
-        for (Item i : items) {
-            if (i.getItemName().equals(itemName)) {
-                return index;
-            }
-            index++;
+    /**
+     * Adds an item that does not belong to any other quote.
+     */
+    public void addItem(Item item) {
+        ensureTotals();
+        items.add(item);
+        item.setOwner(this);
+        if (owner != null) {
+            owner.itemAdded(this, item);
+        }
+        itemModified(item);
+    }
+
+    /**
+     * Takes an item's amounts out of the running totals, before the item is removed or changed.
+     */
+    void removeFromTotals(Item item) {
+        ensureTotals();
+        subtotalCents -= item.getSubtotalCents();
+        taxCents -= item.getTaxCents();
+    }
+
+    /**
+     * Adds an item's amounts to the running totals, after the item was added or changed.
+     */
+    void itemModified(Item item) {
+        ensureTotals();
+        subtotalCents += item.getSubtotalCents();
+        taxCents += item.getTaxCents();
+        markModified();
+    }
+
+    /**
+     * Computes the running totals once for a quote created by deserialization.
+     */
+    private void ensureTotals() {
+        if (hasTotals) {
+            return;
+        }
+        ensureValid();
+        hasTotals = true;
+        subtotalCents = 0;
+        taxCents = 0;
+        for (Item item : items) {
+            subtotalCents += item.getSubtotalCents();
+            taxCents += item.getTaxCents();
         }
-        throw new QuotelyException(QuotelyException.ErrorType.ITEM_NOT_FOUND);
     }
 
     public boolean hasItem(String itemName) {
-        for (Item i : items) {
-            if (i.getItemName().equals(itemName)) {
-                return true;
-            }
+        return getItemList().containsName(itemName);
+    }
+
+    /**
+     * Returns the items as an indexed ItemList, converting the plain list Gson creates on load.
+     */
+    private ItemList getItemList() {
+        ensureValid();
+        return (ItemList) items;
+    }
+
+    /**
+     * Returns a deep copy of this quote that is not attached to any QuoteList.
+     * The copy is unaffected by later changes to this quote.
+     */
+    public Quote copy() {
+        Quote copy = new Quote(quoteName, customerName);
+        for (Item item : items) {
+            copy.addItem(Item.ofCents(item.getItemName(), item.getPriceCents(), item.getQuantity(),
+                    item.getTaxRateBasisPoints()));
         }
-        return false;
+        copy.version = version;
+        return copy;
     }
 
     public String toString() {
@@ -93,11 +202,18 @@ public class Quote {
                 && items != null;
     }
     /**
-     * Ensures the Quote object is in a valid state by initializing items if necessary.
+     * Ensures the Quote object is in a valid state by initializing items if necessary
+     * and indexing items loaded from a file.
      */
     public void ensureValid() {
         if (items == null) {
-            items = new ArrayList<>();
+            items = new ItemList();
+        } else if (!(items instanceof ItemList)) {
+            items = new ItemList(items);
+            for (Item item : items) {
+                item.setOwner(this);
+            }
+            hasTotals = false;
         }
     }
 }
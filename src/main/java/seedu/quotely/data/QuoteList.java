@@ -1,7 +1,13 @@
 package seedu.quotely.data;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import seedu.quotely.exception.QuotelyException;
@@ -9,68 +15,168 @@ import seedu.quotely.util.LoggerConfig;
 
 public class QuoteList {
     private static final Logger logger = LoggerConfig.getLogger(QuoteList.class);
-    private List<Quote> quotes = new ArrayList<>();
+    // the most names suggested for a mistyped quote name, the same wherever a name is looked up
+    private static final int MAX_SUGGESTIONS = 3;
+    // removing a quote does not scan or shift the quotes after it
+    private SlotList<Quote> quotes = new SlotList<>();
+    // bumped whenever the list or any quote in it changes; not persisted
+    private transient long version;
+    // normalized quote name -> quotes with that name in list order, for case-insensitive lookups; rebuilt by
+    // validate(). Data from a hand-edited file may hold a name twice, and only the first such quote is reachable.
+    private transient Map<String, Deque<Quote>> quoteIndex = new HashMap<>();
+    // built on the first search and then kept up to date; not persisted
+    private transient SearchIndex searchIndex;
+    // normalized quote names for typo-tolerant lookup; built on first use and then kept up to date
+    private transient BkTree nameTree;
 
     public QuoteList() {
     }
 
+    /**
+     * Returns a read-only view of the quotes; use {@link #addQuote} and {@link #removeQuote} to change them,
+     * so the name and search indexes stay up to date.
+     */
     public List<Quote> getQuotes() {
-        return quotes;
+        return Collections.unmodifiableList(quotes);
+    }
+
+    /**
+     * Returns a counter that changes whenever a quote is added, removed or modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    void markModified() {
+        version++;
+    }
+
+    void itemAdded(Quote quote, Item item) {
+        if (searchIndex != null) {
+            searchIndex.addItem(quote, item);
+        }
+    }
+
+    void itemRemoved(Quote quote, Item item) {
+        if (searchIndex != null) {
+            searchIndex.removeItem(quote, item);
+        }
     }
 
     public void addQuote(Quote quote) {
         quotes.add(quote);
+        indexQuote(quoteIndex, quote);
+        if (searchIndex != null) {
+            searchIndex.addQuote(quote);
+        }
+        if (nameTree != null) {
+            nameTree.add(normalize(quote.getQuoteName()));
+        }
+        quote.setOwner(this);
+        markModified();
     }
 
     public void removeQuote(Quote quote) throws QuotelyException {
-        for (int i = 0; i < quotes.size(); i++) {
-            Quote currentQuote = quotes.get(i);
+        String key = normalize(quote.getQuoteName());
+        Deque<Quote> quotesOfName = quoteIndex.get(key);
+        if (quotesOfName == null) {
+            logger.warning("Attempted to remove quote that does not exist: " + quote.getQuoteName());
+            throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND);
+        }
 
-            if (currentQuote.getQuoteName().equalsIgnoreCase(quote.getQuoteName())) {
-                quotes.remove(i);
-                logger.info("Successfully removed quote: " + currentQuote.getQuoteName());
-                return;
+        // the next quote with the same name, if any, becomes reachable
+        Quote currentQuote = quotesOfName.removeFirst();
+        if (quotesOfName.isEmpty()) {
+            quoteIndex.remove(key);
+        }
+        quotes.removeElement(currentQuote);
+        if (searchIndex != null) {
+            searchIndex.removeQuote(currentQuote);
+        }
+        if (nameTree != null && !quoteIndex.containsKey(key)) {
+            nameTree.remove(key);
+            if (nameTree.needsRebuild()) {
+                nameTree = null;
             }
         }
+        currentQuote.setOwner(null);
+        markModified();
+        logger.info("Successfully removed quote: " + currentQuote.getQuoteName());
+    }
 
-        logger.warning("Attempted to remove quote that does not exist: " + quote.getQuoteName());
-        throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND);
+    /**
+     * Returns a deep copy of this list and all its quotes, e.g. for saving in the background.
+     */
+    public QuoteList copy() {
+        QuoteList copy = new QuoteList();
+        for (Quote q : quotes) {
+            Quote quoteCopy = q.copy();
+            quoteCopy.setOwner(copy);
+            copy.quotes.add(quoteCopy);
+            indexQuote(copy.quoteIndex, quoteCopy);
+        }
+        copy.version = version;
+        return copy;
     }
 
     public Quote getQuoteByName(String quoteName) throws QuotelyException {
-        for (Quote q : quotes) {
-            if (q.getQuoteName().equalsIgnoreCase(quoteName)) {
-                return q;
-            }
+        Deque<Quote> quotesOfName = quoteName == null ? null : quoteIndex.get(normalize(quoteName));
+        if (quotesOfName != null) {
+            return quotesOfName.getFirst();
         }
         logger.warning("Failed to find quote with name: " + quoteName);
         throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND);
     }
 
+    /**
+     * Returns the quotes matching every whitespace-separated term of the search, in list order.
+     * A term matches a quote whose name or customer name contains it, or whose quote name, customer name
+     * or item names have words starting with each word of the term.
+     */
     public ArrayList<Quote> searchQuote(String searchTerm) throws QuotelyException {
-        ArrayList<Quote> result = new ArrayList<>();
-        for (Quote q : quotes) {
-            if (q.getQuoteName().toLowerCase().contains(searchTerm.toLowerCase())) {
-                result.add(q);
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex();
+            for (Quote q : quotes) {
+                searchIndex.addQuote(q);
             }
         }
-        return result;
+        return new ArrayList<>(searchIndex.search(searchTerm));
     }
 
-    public boolean hasQuote(String quoteName) {
-        for (Quote q : quotes) {
-            if (q.getQuoteName().equalsIgnoreCase(quoteName)) {
-                return true;
+    /**
+     * Returns the names of up to three quotes whose names are closest to the given one,
+     * for suggestions when a name is mistyped. Only names within a few edits are considered:
+     * one for names up to 4 characters, two up to 8 characters, and three for longer names.
+     */
+    public List<String> suggestQuoteNames(String quoteName) {
+        if (quoteName == null || quoteName.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (nameTree == null) {
+            nameTree = new BkTree();
+            for (String key : quoteIndex.keySet()) {
+                nameTree.add(key);
             }
         }
-        return false;
+        String key = normalize(quoteName.trim());
+        int maxDistance = key.length() <= 4 ? 1 : key.length() <= 8 ? 2 : 3;
+        List<String> names = new ArrayList<>();
+        for (String match : nameTree.closest(key, maxDistance, MAX_SUGGESTIONS)) {
+            names.add(quoteIndex.get(match).getFirst().getQuoteName());
+        }
+        return names;
+    }
+
+    public boolean hasQuote(String quoteName) {
+        return quoteName != null && quoteIndex.containsKey(normalize(quoteName));
     }
 
     public void validate() {
-        List<Quote> validQuotes = new ArrayList<>();
+        SlotList<Quote> validQuotes = new SlotList<>();
         for (Quote q : quotes) {
             q.ensureValid();
             if (q.isValid()) {
+                q.setOwner(this);
                 validQuotes.add(q);
             } else {
                 logger.warning("Invalid quote found and removed during validation: " + 
@@ -78,5 +184,26 @@ public class QuoteList {
             }
         }
         this.quotes = validQuotes;
+        rebuildIndex();
+        searchIndex = null;
+        nameTree = null;
+    }
+
+    private void rebuildIndex() {
+        quoteIndex = new HashMap<>();
+        for (Quote q : quotes) {
+            indexQuote(quoteIndex, q);
+        }
+    }
+
+    private static void indexQuote(Map<String, Deque<Quote>> index, Quote quote) {
+        index.computeIfAbsent(normalize(quote.getQuoteName()), key -> new ArrayDeque<>()).addLast(quote);
+    }
+
+    /**
+     * Returns the key under which a quote name is indexed; quote names are case-insensitive.
+     */
+    private static String normalize(String quoteName) {
+        return quoteName.toLowerCase(Locale.ROOT);
     }
 }
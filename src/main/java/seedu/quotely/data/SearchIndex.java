@@ -0,0 +1,251 @@
+package seedu.quotely.data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Search indexes over the quotes of a {@link QuoteList}, kept up to date by the list as quotes
+ * and items are added and removed:
+ * <ul>
+ *   <li>an inverted index from the words of quote names, customer names and item names to quotes, and</li>
+ *   <li>a trigram index over quote names and customer names, which narrows a substring search down to
+ *       the quotes holding every three-letter piece of the term before they are checked with contains.</li>
+ * </ul>
+ *
+ * <p>A query is split into terms on whitespace and a quote matches when it matches every term.
+ * A term matches a quote when it appears anywhere in the quote name or customer name, or when each word
+ * of the term starts a word of the quote name, customer name or one of its item names.
+ */
+class SearchIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    // word -> quotes containing it, with how many of the quote's fields contain it
+    private final NavigableMap<String, Map<Quote, Integer>> postings = new TreeMap<>();
+    // trigram -> quotes whose name or customer name contains it
+    private final Map<String, Set<Quote>> trigrams = new HashMap<>();
+    // quotes whose name or customer name is too short to hold a trigram
+    private final Set<Quote> shortTexts = new HashSet<>();
+    private final Map<Quote, IndexedQuote> indexed = new HashMap<>();
+    private long nextOrder = 0;
+
+    /**
+     * What the index remembers about a quote: its position in insertion order, so results come back
+     * in list order, and its lower-cased names for the final substring check.
+     */
+    private static class IndexedQuote {
+        private final long order;
+        private final String name;
+        private final String customer;
+
+        IndexedQuote(long order, String name, String customer) {
+            this.order = order;
+            this.name = name;
+            this.customer = customer;
+        }
+
+        boolean contains(String term) {
+            return name.contains(term) || customer.contains(term);
+        }
+    }
+
+    void addQuote(Quote quote) {
+        IndexedQuote entry = new IndexedQuote(nextOrder++, normalize(quote.getQuoteName()),
+                normalize(quote.getCustomerName()));
+        indexed.put(quote, entry);
+        for (String gram : trigramsOf(entry)) {
+            trigrams.computeIfAbsent(gram, g -> new HashSet<>()).add(quote);
+        }
+        if (entry.name.length() < GRAM_LENGTH || entry.customer.length() < GRAM_LENGTH) {
+            shortTexts.add(quote);
+        }
+        addWords(quote, quote.getQuoteName());
+        addWords(quote, quote.getCustomerName());
+        for (Item item : quote.getItems()) {
+            addWords(quote, item.getItemName());
+        }
+    }
+
+    void removeQuote(Quote quote) {
+        IndexedQuote entry = indexed.remove(quote);
+        if (entry == null) {
+            return;
+        }
+        for (String gram : trigramsOf(entry)) {
+            Set<Quote> quotes = trigrams.get(gram);
+            quotes.remove(quote);
+            if (quotes.isEmpty()) {
+                trigrams.remove(gram);
+            }
+        }
+        shortTexts.remove(quote);
+        removeWords(quote, quote.getQuoteName());
+        removeWords(quote, quote.getCustomerName());
+        for (Item item : quote.getItems()) {
+            removeWords(quote, item.getItemName());
+        }
+    }
+
+    void addItem(Quote quote, Item item) {
+        if (indexed.containsKey(quote)) {
+            addWords(quote, item.getItemName());
+        }
+    }
+
+    void removeItem(Quote quote, Item item) {
+        if (indexed.containsKey(quote)) {
+            removeWords(quote, item.getItemName());
+        }
+    }
+
+    /**
+     * Returns the quotes matching every term of the query, in the order they were added.
+     */
+    List<Quote> search(String query) {
+        String[] terms = normalize(query).trim().split("\\s+");
+        Set<Quote> matches = null;
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            Set<Quote> termMatches = matchTerm(term);
+            if (matches == null) {
+                matches = termMatches;
+            } else {
+                matches.retainAll(termMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+
+        List<Quote> results = new ArrayList<>(matches == null ? indexed.keySet() : matches);
+        results.sort(Comparator.comparingLong(quote -> indexed.get(quote).order));
+        return results;
+    }
+
+    private Set<Quote> matchTerm(String term) {
+        Set<Quote> wordMatches = null;
+        for (String word : tokenize(term)) {
+            Set<Quote> prefixMatches = new HashSet<>();
+            for (Map<Quote, Integer> quotes : postings.subMap(word, true, word + Character.MAX_VALUE, true).values()) {
+                prefixMatches.addAll(quotes.keySet());
+            }
+            if (wordMatches == null) {
+                wordMatches = prefixMatches;
+            } else {
+                wordMatches.retainAll(prefixMatches);
+            }
+        }
+
+        Set<Quote> termMatches = wordMatches == null ? new HashSet<>() : wordMatches;
+        for (Quote quote : substringCandidates(term)) {
+            if (indexed.get(quote).contains(term)) {
+                termMatches.add(quote);
+            }
+        }
+        return termMatches;
+    }
+
+    /**
+     * Returns a superset of the quotes whose name or customer name contains the term.
+     */
+    private Set<Quote> substringCandidates(String term) {
+        Set<Quote> candidates = new HashSet<>(shortTexts);
+        if (term.length() < GRAM_LENGTH) {
+            // too short to split into trigrams; every trigram containing it leads to a candidate
+            for (Map.Entry<String, Set<Quote>> entry : trigrams.entrySet()) {
+                if (entry.getKey().contains(term)) {
+                    candidates.addAll(entry.getValue());
+                }
+            }
+            return candidates;
+        }
+
+        Set<Quote> smallest = null;
+        List<Set<Quote>> postingLists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+            Set<Quote> quotes = trigrams.get(term.substring(i, i + GRAM_LENGTH));
+            if (quotes == null) {
+                return candidates;
+            }
+            postingLists.add(quotes);
+            if (smallest == null || quotes.size() < smallest.size()) {
+                smallest = quotes;
+            }
+        }
+        for (Quote quote : smallest) {
+            if (isInAll(quote, postingLists)) {
+                candidates.add(quote);
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean isInAll(Quote quote, List<Set<Quote>> postingLists) {
+        for (Set<Quote> quotes : postingLists) {
+            if (!quotes.contains(quote)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> trigramsOf(IndexedQuote entry) {
+        Set<String> grams = new HashSet<>();
+        for (String text : new String[] {entry.name, entry.customer}) {
+            for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                grams.add(text.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    private void addWords(Quote quote, String text) {
+        for (String word : tokenize(normalize(text))) {
+            postings.computeIfAbsent(word, w -> new HashMap<>()).merge(quote, 1, Integer::sum);
+        }
+    }
+
+    private void removeWords(Quote quote, String text) {
+        for (String word : tokenize(normalize(text))) {
+            Map<Quote, Integer> quotes = postings.get(word);
+            if (quotes == null) {
+                continue;
+            }
+            quotes.computeIfPresent(quote, (q, count) -> count > 1 ? count - 1 : null);
+            if (quotes.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Splits lower-cased text into its distinct words, i.e. runs of letters and digits.
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> words = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.quotely.data;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A list that remembers the position of each element, so a known element can be removed without searching for it.
+ *
+ * <p>Like {@link ItemList}, removing an element leaves an empty slot instead of shifting the elements after it,
+ * and empty slots are squeezed out the next time an element is read by position.
+ * Elements are tracked by identity; the same object cannot be in the list twice.
+ */
+public class SlotList<E> extends AbstractList<E> {
+    private static final int MIN_SLOTS_TO_COMPACT = 16;
+
+    // live elements and null slots left by removals, in order
+    private final List<E> slots = new ArrayList<>();
+    // element -> its slot
+    private final Map<E, Integer> positions = new IdentityHashMap<>();
+    private int size = 0;
+
+    public SlotList() {
+    }
+
+    public SlotList(Collection<E> elements) {
+        for (E element : elements) {
+            add(element);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        compact();
+        return slots.get(index);
+    }
+
+    @Override
+    public boolean add(E element) {
+        // empty slots are null; this also rejects the null entries Gson may read from a broken data file
+        Objects.requireNonNull(element, "Element cannot be null");
+        assert !positions.containsKey(element) : "Element is already in the list";
+        positions.put(element, slots.size());
+        slots.add(element);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        // get() compacts, so the index is also the element's slot
+        E element = get(index);
+        removeElement(element);
+        return element;
+    }
+
+    /**
+     * Removes this exact element without searching for it or shifting the elements after it.
+     *
+     * @return true if the element was in the list
+     */
+    public boolean removeElement(E element) {
+        Integer slot = positions.remove(element);
+        if (slot == null) {
+            return false;
+        }
+        slots.set(slot, null);
+        size--;
+        modCount++;
+
+        // keep the memory held by empty slots proportional to the number of elements
+        if (slots.size() >= MIN_SLOTS_TO_COMPACT && slots.size() > 2 * size) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Squeezes out the empty slots left by removals and renumbers the positions.
+     */
+    private void compact() {
+        if (slots.size() == size) {
+            return;
+        }
+        slots.removeIf(Objects::isNull);
+        positions.clear();
+        for (int i = 0; i < slots.size(); i++) {
+            positions.put(slots.get(i), i);
+        }
+    }
+}
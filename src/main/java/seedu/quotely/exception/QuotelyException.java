@@ -1,5 +1,7 @@
 package seedu.quotely.exception;
 
+import java.util.List;
+
 public class QuotelyException extends Exception {
     public enum ErrorType {
         INVALID_COMMAND,
@@ -24,11 +26,14 @@ public class QuotelyException extends Exception {
         INVALID_ITEM_QTY,
         INVALID_ITEM_TAX,
         INVALID_CUSTOMER_NAME,
-        INVALID_COMPANY_NAME
+        INVALID_COMPANY_NAME,
+        INVALID_PAGE,
+        EXPORT_FAILED
     }
 
     private final ErrorType errorType;
     private String message;
+    private List<String> suggestions = List.of();
 
     public QuotelyException(ErrorType errorType) {
         this.errorType = errorType;
@@ -39,6 +44,23 @@ public class QuotelyException extends Exception {
         this.message = message;
     }
 
+    /**
+     * Constructs an exception that also suggests what the user may have meant, e.g. the names of
+     * quotes close to a mistyped one.
+     */
+    public QuotelyException(ErrorType errorType, String message, List<String> suggestions) {
+        this(errorType, message);
+        this.suggestions = List.copyOf(suggestions);
+    }
+
+    public ErrorType getErrorType() {
+        return errorType;
+    }
+
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
     @Override
     public String getMessage() {
         switch (errorType) {
@@ -63,7 +85,7 @@ public class QuotelyException extends Exception {
         case NO_ACTIVE_QUOTE:
             return "There is no active quote. Please navigate to a quote or specify one in the commands.";
         case QUOTE_NOT_FOUND:
-            return "The specified quote (" + message + ") was not found.";
+            return "The specified quote (" + message + ") was not found." + formatSuggestions();
         case ITEM_NOT_FOUND:
             return "The specified item was not found in the quote.";
         case INVALID_STATE:
@@ -92,11 +114,22 @@ public class QuotelyException extends Exception {
             return "The customer name provided is too long or contains invalid characters. Please try again.";
         case INVALID_COMPANY_NAME:
             return "The company name provided is too long or contains invalid characters. Please try again.";
+        case INVALID_PAGE:
+            return "That page does not exist. The quotes fit on " + message + " page(s).";
+        case EXPORT_FAILED:
+            return "The quote could not be exported: " + message;
         default:
             return "An unknown error occurred.";
         }
     }
 
+    private String formatSuggestions() {
+        if (suggestions.isEmpty()) {
+            return "";
+        }
+        return "\nDid you mean: " + String.join(", ", suggestions) + "?";
+    }
+
     private String handleInvalidCommand() {
         return "I'm sorry, but I don't know what that means. \n\n" +
                 "Here are valid commands you may give: \n" +
@@ -105,12 +138,15 @@ public class QuotelyException extends Exception {
                 "3) Delete a quote `unquote n/QUOTE_NAME`\n" +
                 "4) Add an item `add i/ITEM_NAME {n/QUOTE_NAME} p/PRICE q/QUANTITY`\n" +
                 "5) Delete an item `delete i/ITEM_NAME {n/QUOTE_NAME}`\n" +
-                "6) Export a quote to pdf file `export {n/QUOTE_NAME} f/FILE_NAME`\n" +
+                "6) Export a quote to pdf file `export {-f} {n/QUOTE_NAME} f/FILE_NAME`\n" +
+                "   or export many quotes `export {-f} all` / `export {-f} search/SEARCH_TERM`\n" +
+                "   or combine them in one report `export {-f} all f/FILE_NAME`\n" +
                 "7) Calculate the total of a quote `total {n/QUOTE_NAME}`\n" +
                 "8) Navigate to a quote or main menu `nav n/QUOTE_NAME/ nav main`\n" +
                 "9) Finish the Quote `finish`\n" +
-                "10) Show all quotes `show`\n" +
+                "10) Show all quotes `show [summary] [page/PAGE] [size/SIZE]`\n" +
                 "11) Search for Quotes `search n/QUOTE_NAME`\n" +
-                "12) Exit the program `exit`\n";
+                "12) List the exports running in the background `jobs`\n" +
+                "13) Exit the program `exit`\n";
     }
 }
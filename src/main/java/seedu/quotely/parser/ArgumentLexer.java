@@ -0,0 +1,114 @@
+package seedu.quotely.parser;
+
+/**
+ * Finds prefixed arguments such as {@code n/QUOTE_NAME} in a command's arguments without regular expressions.
+ *
+ * <p>A prefix is a letter followed by '/' that either opens the arguments or follows whitespace.
+ * The parser looks for the prefixes a command expects from left to right, each search starting where
+ * the previous value began, so a well-formed command is scanned once and only the extracted values are
+ * allocated. A value runs from its prefix up to the whitespace before the next expected prefix,
+ * so a value may itself contain text like "x/" that is not an expected prefix.
+ */
+final class ArgumentLexer {
+    // characters allowed in quote, customer, company and item names, indexed by character
+    private static final boolean[] NAME_CHARACTERS = new boolean[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            NAME_CHARACTERS[c] = true;
+            NAME_CHARACTERS[Character.toLowerCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            NAME_CHARACTERS[c] = true;
+        }
+        for (char c : " _'&.,()-".toCharArray()) {
+            NAME_CHARACTERS[c] = true;
+        }
+    }
+
+    private ArgumentLexer() {
+    }
+
+    /**
+     * Returns true if the arguments open with the given prefix, e.g. 'n' for "n/".
+     */
+    static boolean startsWithPrefix(String arguments, char prefix) {
+        return arguments.length() >= 2 && arguments.charAt(0) == prefix && arguments.charAt(1) == '/';
+    }
+
+    /**
+     * Returns the index of the first occurrence of the prefix at or after {@code from} that follows whitespace,
+     * or -1 if there is none.
+     */
+    static int indexOfPrefix(String arguments, char prefix, int from) {
+        for (int i = Math.max(from, 1); i + 1 < arguments.length(); i++) {
+            if (arguments.charAt(i) == prefix && arguments.charAt(i + 1) == '/'
+                    && isWhitespace(arguments.charAt(i - 1))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first character at or after {@code from} that is not whitespace,
+     * or the length of the arguments if there is none.
+     */
+    static int skipWhitespace(String arguments, int from) {
+        int i = from;
+        while (i < arguments.length() && isWhitespace(arguments.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index just past the word starting at {@code from}, i.e. of the next whitespace or the end.
+     */
+    static int endOfWord(String arguments, int from) {
+        int i = from;
+        while (i < arguments.length() && !isWhitespace(arguments.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns true if the arguments open with the given word, on its own or followed by whitespace.
+     */
+    static boolean startsWithWord(String arguments, String word) {
+        return arguments.startsWith(word)
+                && (arguments.length() == word.length() || isWhitespace(arguments.charAt(word.length())));
+    }
+
+    /**
+     * Returns the value between two indexes of the arguments, without surrounding whitespace.
+     */
+    static String valueBetween(String arguments, int start, int end) {
+        return arguments.substring(start, end).trim();
+    }
+
+    /**
+     * Returns true for the whitespace characters that separate arguments: space, tab, line feed,
+     * vertical tab, form feed and carriage return.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Returns true if the name is not empty and only contains letters, digits, spaces and the characters _'&.,()-
+     */
+    static boolean isValidName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= NAME_CHARACTERS.length || !NAME_CHARACTERS[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
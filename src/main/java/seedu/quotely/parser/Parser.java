@@ -1,7 +1,5 @@
 package seedu.quotely.parser;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.logging.Logger;
 
 import seedu.quotely.command.SearchQuoteCommand;
@@ -17,6 +15,9 @@ import seedu.quotely.command.AddItemCommand;
 import seedu.quotely.command.DeleteItemCommand;
 import seedu.quotely.command.CalculateTotalCommand;
 import seedu.quotely.command.NavigateCommand;
+import seedu.quotely.command.ExportQuotesCommand;
+import seedu.quotely.command.ExportReportCommand;
+import seedu.quotely.command.JobsCommand;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.Quote;
 import seedu.quotely.data.QuoteList;
@@ -25,15 +26,26 @@ import seedu.quotely.util.LoggerConfig;
 public class Parser {
     private static final Logger logger = LoggerConfig.getLogger(Parser.class);
 
-    private static final String ADD_QUOTE_COMMAND_PATTERN = "^n/(.+?)\\s+c/(.+)$";
-    private static final String QUOTENAME_ARG_PATTERN = "^n/(.+)$";
-    private static final String EXPORT_QUOTENAME_ARG_PATTERN = "^n/(.+?)(?=\\s+f/|$)";
-    private static final String EXPORT_START_PATTERN = "^(n/|f/)";
-    private static final String FILENAME_ARG_PATTERN = "f/(.+)$";
-    private static final String REGISTER_COMMAND_PATTERN = "^c/(.+)$";
-    private static final String ADD_ITEM_COMMAND_PATTERN
-            = "^i/(.+?)(?:\\s+n/(.+?))?\\s+p/(.+?)\\s+q/(.+?)(?:\\s+t/(.+))?$";
-    private static final String DELETE_ITEM_COMMAND_PATTERN = "^i/(.+?)(?:\s+n/(.+))?$";
+    // argument prefixes, each followed by '/'
+    private static final char QUOTE_NAME_PREFIX = 'n';
+    private static final char CUSTOMER_NAME_PREFIX = 'c';
+    private static final char COMPANY_NAME_PREFIX = 'c';
+    private static final char ITEM_NAME_PREFIX = 'i';
+    private static final char PRICE_PREFIX = 'p';
+    private static final char QUANTITY_PREFIX = 'q';
+    private static final char TAX_RATE_PREFIX = 't';
+    private static final char FILENAME_PREFIX = 'f';
+    private static final String FILENAME_MARKER = "f/";
+    // length of a prefix and its '/'
+    private static final int PREFIX_LENGTH = 2;
+    // options of the show command
+    private static final String SUMMARY_OPTION = "summary";
+    private static final String PAGE_PREFIX = "page/";
+    private static final String SIZE_PREFIX = "size/";
+    // bulk options of the export command
+    private static final String EXPORT_ALL_OPTION = "all";
+    private static final String EXPORT_SEARCH_PREFIX = "search/";
+    private static final String EXPORT_FORCE_OPTION = "-f";
 
     // command keywords
     private static final String ADD_QUOTE_COMMAND_KEYWORD = "quote";
@@ -47,6 +59,7 @@ public class Parser {
     private static final String NAVIGATE_COMMAND_KEYWORD = "nav";
     private static final String SEARCH_QUOTE_COMMAND_KEYWORD = "search";
     private static final String REGISTER_COMMAND_KEYWORD = "register";
+    private static final String JOBS_COMMAND_KEYWORD = "jobs";
     private static final String EXIT_COMMAND_KEYWORD = "exit";
 
     //Fixed Variable Declarations
@@ -62,7 +75,7 @@ public class Parser {
     //Method for validating names
     public static boolean isValidName(String s) {
         //check if string only contains expected char types
-        return s.matches("[A-Za-z0-9 _'&.,()\\-]+");
+        return ArgumentLexer.isValidName(s);
     }
 
     public static Command parse(String fullCommand, QuotelyState state, QuoteList quoteList)
@@ -85,12 +98,13 @@ public class Parser {
          * add exception handling in parser
          */
         fullCommand = fullCommand.trim();
-        String command = fullCommand.split(" ")[0];
+        int commandEnd = fullCommand.indexOf(' ');
+        String command = commandEnd < 0 ? fullCommand : fullCommand.substring(0, commandEnd);
         logger.fine("Extracted command: '" + command + "'");
 
         String arguments = "";
-        if (fullCommand.split(" ").length > 1) {
-            arguments = fullCommand.split(" ", 2)[1].trim();
+        if (commandEnd >= 0) {
+            arguments = fullCommand.substring(commandEnd + 1).trim();
             logger.fine("Extracted arguments: '" + arguments + "'");
         }
         switch (command) {
@@ -105,7 +119,7 @@ public class Parser {
             return parseDeleteQuoteCommand(arguments, state, quoteList);
         case SHOW_QUOTES_COMMAND_KEYWORD:
             // available in all state, for now?
-            return new ShowQuotesCommand();
+            return parseShowQuotesCommand(arguments);
         case FINISH_QUOTE_COMMAND_KEYWORD:
             // inside quote only
             return parseFinishQuoteCommand(state);
@@ -127,6 +141,9 @@ public class Parser {
         case SEARCH_QUOTE_COMMAND_KEYWORD:
             // available in main menu only
             return parseSearchCommand(arguments, state);
+        case JOBS_COMMAND_KEYWORD:
+            // available in all state
+            return new JobsCommand();
         case EXIT_COMMAND_KEYWORD:
             // available in all state, for now
             return new ExitCommand();
@@ -138,12 +155,13 @@ public class Parser {
     private static Command parseAddQuoteCommand(String arguments, QuotelyState state)
             throws QuotelyException {
         logger.fine("parseAddQuoteCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(ADD_QUOTE_COMMAND_PATTERN);
-        Matcher m = p.matcher(arguments);
-
-        if (m.find()) {
-            String quoteName = m.group(1).trim();
-            String customerName = m.group(2).trim();
+        // n/QUOTE_NAME c/CUSTOMER_NAME, where each name is at least one character long
+        int customerStart = ArgumentLexer.indexOfPrefix(arguments, CUSTOMER_NAME_PREFIX, 2 * PREFIX_LENGTH);
+        if (ArgumentLexer.startsWithPrefix(arguments, QUOTE_NAME_PREFIX)
+                && customerStart >= 0 && customerStart + PREFIX_LENGTH < arguments.length()) {
+            String quoteName = ArgumentLexer.valueBetween(arguments, PREFIX_LENGTH, customerStart);
+            String customerName = ArgumentLexer.valueBetween(arguments, customerStart + PREFIX_LENGTH,
+                    arguments.length());
 
             //validate quote name and string content
             if (quoteName.length() > MAX_QUOTENAME_LENGTH || !isValidName(quoteName)) {
@@ -177,13 +195,8 @@ public class Parser {
             return new NavigateCommand();
         }
 
-        Pattern p = Pattern.compile(QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
-
-        String targetQuoteName = null;
-        if (m.find()) {
-            targetQuoteName = m.group(1).trim();
-        } else {
+        String targetQuoteName = parseQuoteNameArgument(arguments);
+        if (targetQuoteName == null) {
             logger.warning("Failed to navigate to target with name: " + targetQuoteName);
             throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT, "nav main OR nav n/QUOTE_NAME");
         }
@@ -195,7 +208,7 @@ public class Parser {
         } catch (QuotelyException e) {
             logger.warning("Failed to navigate to target with name: " + targetQuoteName);
             if (targetQuoteName != null) {
-                throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND, targetQuoteName);
+                throw quoteNotFound(targetQuoteName, quoteList);
             } else {
                 throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
                         "nav main OR nav n/QUOTE_NAME");
@@ -206,13 +219,8 @@ public class Parser {
     private static Command parseDeleteQuoteCommand(String arguments, QuotelyState state,
                                                    QuoteList quoteList) throws QuotelyException {
         logger.fine("parseDeleteQuoteCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
-
-        String quoteName = null;
-        if (m.find()) {
-            quoteName = m.group(1).trim();
-        } else if (arguments.length() > 0) {
+        String quoteName = parseQuoteNameArgument(arguments);
+        if (quoteName == null && arguments.length() > 0) {
             // if arguments were provided but did not match pattern
             logger.warning("Invalid format for delete quote command: " + arguments);
             throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT, "unquote [n/QUOTE_NAME]");
@@ -224,7 +232,7 @@ public class Parser {
         } catch (QuotelyException e) {
             logger.warning("Failed to find quote for deletion with name: " + quoteName);
             if (quoteName != null) {
-                throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND, quoteName);
+                throw quoteNotFound(quoteName, quoteList);
             } else {
                 throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT, "unquote [n/QUOTE_NAME]");
             }
@@ -234,53 +242,95 @@ public class Parser {
     private static Command parseExportCommand(String arguments, QuotelyState state,
                                               QuoteList quoteList) throws QuotelyException {
         logger.fine("parseExportCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(EXPORT_QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
-        Pattern f = Pattern.compile(FILENAME_ARG_PATTERN);
-        Matcher fileMatcher = f.matcher(arguments);
-        Pattern startPattern = Pattern.compile(EXPORT_START_PATTERN);
-        Matcher startMatcher = startPattern.matcher(arguments);
-        if (arguments.length() > 0 && !startMatcher.find()) {
+        // a leading "-f" exports even if the PDF is up to date; it only counts before the other arguments,
+        // as a quote name, file name or search term may end in any word
+        boolean isForced = ArgumentLexer.startsWithWord(arguments, EXPORT_FORCE_OPTION);
+        if (isForced) {
+            arguments = ArgumentLexer.valueBetween(arguments, EXPORT_FORCE_OPTION.length(), arguments.length());
+        }
+        // an f/ prefix after "all" or "search/" combines the selected quotes into one report
+        String reportName = null;
+        int reportNameStart = ArgumentLexer.indexOfPrefix(arguments, FILENAME_PREFIX, 1);
+        if (reportNameStart >= 0) {
+            String selection = ArgumentLexer.valueBetween(arguments, 0, reportNameStart);
+            if (selection.equals(EXPORT_ALL_OPTION) || selection.startsWith(EXPORT_SEARCH_PREFIX)) {
+                reportName = ArgumentLexer.valueBetween(arguments, reportNameStart + PREFIX_LENGTH,
+                        arguments.length());
+                if (reportName.isEmpty()) {
+                    throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
+                            "export [-f] all|search/SEARCH_TERM f/FILENAME");
+                }
+                // remove any extension if user included it
+                if (reportName.contains(".")) {
+                    reportName = reportName.substring(0, reportName.lastIndexOf('.'));
+                }
+                arguments = selection;
+            }
+        }
+        if (arguments.equals(EXPORT_ALL_OPTION)) {
+            return reportName == null
+                    ? new ExportQuotesCommand(null, isForced)
+                    : new ExportReportCommand(null, reportName, isForced);
+        }
+        if (arguments.startsWith(EXPORT_SEARCH_PREFIX)) {
+            String searchTerm = ArgumentLexer.valueBetween(arguments, EXPORT_SEARCH_PREFIX.length(),
+                    arguments.length());
+            if (searchTerm.isEmpty()) {
+                throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
+                        "export [-f] search/SEARCH_TERM [f/FILENAME]");
+            }
+            return reportName == null
+                    ? new ExportQuotesCommand(searchTerm, isForced)
+                    : new ExportReportCommand(searchTerm, reportName, isForced);
+        }
+        if (arguments.length() > 0 && !ArgumentLexer.startsWithPrefix(arguments, QUOTE_NAME_PREFIX)
+                && !ArgumentLexer.startsWithPrefix(arguments, FILENAME_PREFIX)) {
             logger.warning("Invalid format for export quote command: " + arguments);
             throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
-                    "export [n/QUOTE_NAME] [f/FILENAME]");
+                    "export [-f] [n/QUOTE_NAME] [f/FILENAME]");
         }
 
+        // the quote name runs up to an f/ prefix or the end
         String quoteName = null;
-        if (m.find()) {
-            quoteName = m.group(1).trim();
+        if (ArgumentLexer.startsWithPrefix(arguments, QUOTE_NAME_PREFIX) && arguments.length() > PREFIX_LENGTH) {
+            int quoteNameEnd = ArgumentLexer.indexOfPrefix(arguments, FILENAME_PREFIX, 2 * PREFIX_LENGTH);
+            quoteName = ArgumentLexer.valueBetween(arguments, PREFIX_LENGTH,
+                    quoteNameEnd >= 0 ? quoteNameEnd : arguments.length());
         }
 
         try {
             Quote quote = getQuoteFromStateAndName(quoteName, state, quoteList);
             String filename = quote.getQuoteName();
-            if (fileMatcher.find() && fileMatcher.group(1).trim().length() > 0) {
-                filename = fileMatcher.group(1).trim();
+            // the filename is whatever follows the first "f/", wherever it appears
+            int filenameMarker = arguments.indexOf(FILENAME_MARKER);
+            if (filenameMarker >= 0) {
+                String filenameArgument = ArgumentLexer.valueBetween(arguments,
+                        filenameMarker + PREFIX_LENGTH, arguments.length());
+                if (filenameArgument.length() > 0) {
+                    filename = filenameArgument;
+                }
             }
             // remove any extension if user included it
             if (filename.contains(".")) {
                 filename = filename.substring(0, filename.lastIndexOf('.'));
             }
             logger.info("Successfully parsed export quote command for quote: " + quote.getQuoteName());
-            return new seedu.quotely.command.ExportQuoteCommand(quote, filename);
+            return new seedu.quotely.command.ExportQuoteCommand(quote, filename, isForced);
         } catch (QuotelyException e) {
             logger.warning("Failed to find quote for export with name: " + quoteName);
             if (quoteName != null) {
                 throw new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND, quoteName);
             } else {
                 throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
-                        "export [n/QUOTE_NAME] [f/FILENAME]");
+                        "export [-f] [n/QUOTE_NAME] [f/FILENAME]");
             }
         }
     }
 
     private static Command parseRegisterCommand(String arguments) throws QuotelyException {
         logger.fine("parseRegisterCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(REGISTER_COMMAND_PATTERN);
-        Matcher m = p.matcher(arguments);
-
-        if (m.find()) {
-            String name = m.group(1).trim();
+        if (ArgumentLexer.startsWithPrefix(arguments, COMPANY_NAME_PREFIX) && arguments.length() > PREFIX_LENGTH) {
+            String name = ArgumentLexer.valueBetween(arguments, PREFIX_LENGTH, arguments.length());
 
             //validate company name and string content
             if (name.length() > MAX_COMPANYNAME_LENGTH || !isValidName(name)) {
@@ -301,20 +351,50 @@ public class Parser {
     private static Command parseAddItemCommand(String arguments,
                                                QuotelyState state, QuoteList quoteList) throws QuotelyException {
         logger.fine("parseAddItemCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(ADD_ITEM_COMMAND_PATTERN);
-        Matcher m = p.matcher(arguments);
+        // i/ITEM_NAME [n/QUOTE_NAME] p/PRICE q/QUANTITY [t/TAX_RATE], where each value is at least one
+        // character long; a quote name is only taken if the rest of the command still follows it
+        int priceStart = -1;
+        int quoteNameStart = -1;
+        if (ArgumentLexer.startsWithPrefix(arguments, ITEM_NAME_PREFIX)) {
+            int firstPrice = ArgumentLexer.indexOfPrefix(arguments, PRICE_PREFIX, 2 * PREFIX_LENGTH);
+            int firstQuoteName = ArgumentLexer.indexOfPrefix(arguments, QUOTE_NAME_PREFIX, 2 * PREFIX_LENGTH);
+            if (firstQuoteName >= 0 && firstQuoteName < firstPrice) {
+                int priceAfterQuoteName = ArgumentLexer.indexOfPrefix(arguments, PRICE_PREFIX,
+                        firstQuoteName + 2 * PREFIX_LENGTH);
+                if (priceAfterQuoteName >= 0 && indexOfQuantity(arguments, priceAfterQuoteName) >= 0) {
+                    quoteNameStart = firstQuoteName;
+                    priceStart = priceAfterQuoteName;
+                }
+            }
+            if (priceStart < 0 && firstPrice >= 0 && indexOfQuantity(arguments, firstPrice) >= 0) {
+                priceStart = firstPrice;
+            }
+        }
 
-        if (m.find()) {
-            String itemName = m.group(1).trim();
+        if (priceStart >= 0) {
+            String itemName = ArgumentLexer.valueBetween(arguments, PREFIX_LENGTH,
+                    quoteNameStart >= 0 ? quoteNameStart : priceStart);
             //validate item name and string content
             if (itemName.length() > MAX_ITEMNAME_LENGTH || !isValidName(itemName)) {
                 logger.warning("Invalid item name for add item command: " + arguments);
                 throw new QuotelyException(QuotelyException.ErrorType.INVALID_ITEM_NAME);
             }
-            String quoteName = m.group(2) != null ? m.group(2).trim() : null;
-            String priceStr = m.group(3).trim();
-            String quantityStr = m.group(4).trim();
-            String taxRateStr = m.group(5) != null ? m.group(5).trim() : null;
+            String quoteName = quoteNameStart >= 0
+                    ? ArgumentLexer.valueBetween(arguments, quoteNameStart + PREFIX_LENGTH, priceStart)
+                    : null;
+            int quantityStart = indexOfQuantity(arguments, priceStart);
+            String priceStr = ArgumentLexer.valueBetween(arguments, priceStart + PREFIX_LENGTH, quantityStart);
+            int taxRateStart = ArgumentLexer.indexOfPrefix(arguments, TAX_RATE_PREFIX,
+                    quantityStart + 2 * PREFIX_LENGTH);
+            if (taxRateStart >= 0 && taxRateStart + PREFIX_LENGTH >= arguments.length()) {
+                // a t/ with nothing after it is part of the quantity
+                taxRateStart = -1;
+            }
+            String quantityStr = ArgumentLexer.valueBetween(arguments, quantityStart + PREFIX_LENGTH,
+                    taxRateStart >= 0 ? taxRateStart : arguments.length());
+            String taxRateStr = taxRateStart >= 0
+                    ? ArgumentLexer.valueBetween(arguments, taxRateStart + PREFIX_LENGTH, arguments.length())
+                    : null;
 
             logger.fine("Extracted - Item: '" + itemName + "', Quote: '" +
                     (quoteName != null ? quoteName : "<none>") + "', Price: '" +
@@ -348,7 +428,8 @@ public class Parser {
             // parse price
             try {
                 price = Double.parseDouble(priceStr);
-                if (price < 0) {
+                // NaN would pass the range checks below
+                if (!Double.isFinite(price) || price < 0) {
                     throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
                 }
                 if (price > MAX_PRICE) {
@@ -377,7 +458,7 @@ public class Parser {
             if (taxRateStr != null) {
                 try {
                     taxRate = Double.parseDouble(taxRateStr);
-                    if (taxRate < 0) {
+                    if (!Double.isFinite(taxRate) || taxRate < 0) {
                         throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
                     }
                     if (taxRate > MAX_TAX_RATE) {
@@ -405,11 +486,17 @@ public class Parser {
     private static Command parseDeleteItemCommand(String arguments, QuotelyState state,
                                                   QuoteList quoteList) throws QuotelyException {
         logger.fine("parseDeleteItemCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(DELETE_ITEM_COMMAND_PATTERN);
-        Matcher m = p.matcher(arguments);
-        if (m.find()) {
-            String itemName = m.group(1).trim();
-            String quoteName = m.group(2) != null ? m.group(2).trim() : null;
+        if (ArgumentLexer.startsWithPrefix(arguments, ITEM_NAME_PREFIX) && arguments.length() > PREFIX_LENGTH) {
+            // i/ITEM_NAME [n/QUOTE_NAME], where a quote name is only taken if it is not empty
+            int quoteNameStart = ArgumentLexer.indexOfPrefix(arguments, QUOTE_NAME_PREFIX, 2 * PREFIX_LENGTH);
+            if (quoteNameStart >= 0 && quoteNameStart + PREFIX_LENGTH >= arguments.length()) {
+                quoteNameStart = -1;
+            }
+            String itemName = ArgumentLexer.valueBetween(arguments, PREFIX_LENGTH,
+                    quoteNameStart >= 0 ? quoteNameStart : arguments.length());
+            String quoteName = quoteNameStart >= 0
+                    ? ArgumentLexer.valueBetween(arguments, quoteNameStart + PREFIX_LENGTH, arguments.length())
+                    : null;
             Quote quote;
             try {
                 quote = getQuoteFromStateAndName(quoteName, state, quoteList);
@@ -441,12 +528,7 @@ public class Parser {
     private static Command parseCalculateTotalCommand(String arguments,
                                                       QuotelyState state, QuoteList quoteList) throws QuotelyException {
         logger.fine("parseCalculateTotalCommand called with arguments: " + arguments);
-        Pattern p = Pattern.compile(QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
-        String quoteName = null;
-        if (m.find()) {
-            quoteName = m.group(1).trim();
-        }
+        String quoteName = parseQuoteNameArgument(arguments);
         try {
             Quote quote = getQuoteFromStateAndName(quoteName, state, quoteList);
             return new CalculateTotalCommand(quote);
@@ -461,6 +543,49 @@ public class Parser {
         }
     }
 
+    private static Command parseShowQuotesCommand(String arguments) throws QuotelyException {
+        logger.fine("parseShowQuotesCommand called with arguments: " + arguments);
+        boolean isSummary = false;
+        int page = 0;
+        int pageSize = 0;
+
+        // [summary] [page/PAGE] [size/SIZE] in any order
+        int wordStart = ArgumentLexer.skipWhitespace(arguments, 0);
+        while (wordStart < arguments.length()) {
+            int wordEnd = ArgumentLexer.endOfWord(arguments, wordStart);
+            String word = arguments.substring(wordStart, wordEnd);
+            if (word.equals(SUMMARY_OPTION)) {
+                isSummary = true;
+            } else if (word.startsWith(PAGE_PREFIX)) {
+                page = parsePositiveNumber(word.substring(PAGE_PREFIX.length()));
+            } else if (word.startsWith(SIZE_PREFIX)) {
+                pageSize = parsePositiveNumber(word.substring(SIZE_PREFIX.length()));
+            } else {
+                logger.warning("Invalid format for show command: " + arguments);
+                throw new QuotelyException(QuotelyException.ErrorType.WRONG_COMMAND_FORMAT,
+                        "show [summary] [page/PAGE] [size/SIZE]");
+            }
+            wordStart = ArgumentLexer.skipWhitespace(arguments, wordEnd);
+        }
+
+        logger.info("Successfully parsed show command - summary: " + isSummary + ", page: " + page
+                + ", size: " + pageSize);
+        return new ShowQuotesCommand(isSummary, page, pageSize);
+    }
+
+    private static int parsePositiveNumber(String value) throws QuotelyException {
+        try {
+            int number = Integer.parseInt(value);
+            if (number <= 0) {
+                throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            logger.warning("Failed to parse number: " + e.getMessage());
+            throw new QuotelyException(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT);
+        }
+    }
+
     private static Command parseFinishQuoteCommand(QuotelyState state)
             throws QuotelyException {
         logger.fine("parseFinishQuoteCommand called");
@@ -473,6 +598,36 @@ public class Parser {
         }
     }
 
+    /**
+     * Returns the quote name of an n/QUOTE_NAME argument, or null if the arguments are not one.
+     */
+    private static String parseQuoteNameArgument(String arguments) {
+        if (!ArgumentLexer.startsWithPrefix(arguments, QUOTE_NAME_PREFIX) || arguments.length() <= PREFIX_LENGTH) {
+            return null;
+        }
+        return ArgumentLexer.valueBetween(arguments, PREFIX_LENGTH, arguments.length());
+    }
+
+    /**
+     * Returns the index of the q/ prefix that ends the price starting at {@code priceStart},
+     * or -1 if there is none or no quantity follows it.
+     */
+    private static int indexOfQuantity(String arguments, int priceStart) {
+        int quantityStart = ArgumentLexer.indexOfPrefix(arguments, QUANTITY_PREFIX, priceStart + 2 * PREFIX_LENGTH);
+        if (quantityStart < 0 || quantityStart + PREFIX_LENGTH >= arguments.length()) {
+            return -1;
+        }
+        return quantityStart;
+    }
+
+    /**
+     * Returns a QUOTE_NOT_FOUND exception suggesting the names of quotes close to the mistyped one.
+     */
+    private static QuotelyException quoteNotFound(String quoteName, QuoteList quoteList) {
+        return new QuotelyException(QuotelyException.ErrorType.QUOTE_NOT_FOUND, quoteName,
+                quoteList.suggestQuoteNames(quoteName));
+    }
+
     private static Quote getQuoteFromStateAndName(String quoteName,
                                                   QuotelyState state, QuoteList quoteList) throws QuotelyException {
         // Precondition assertions
@@ -495,13 +650,9 @@ public class Parser {
 
     private static Command parseSearchCommand(String arguments, QuotelyState state) throws QuotelyException {
         logger.fine("parseSearchCommand called");
-        String quoteName;
-
-        Pattern p = Pattern.compile(QUOTENAME_ARG_PATTERN);
-        Matcher m = p.matcher(arguments);
+        String quoteName = parseQuoteNameArgument(arguments);
 
-        if (m.find()) {
-            quoteName = m.group(1).trim();
+        if (quoteName != null) {
             logger.info("Successfully parsed search quote command");
             return new SearchQuoteCommand(quoteName);
         } else {
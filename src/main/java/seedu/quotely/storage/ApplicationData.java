@@ -11,6 +11,8 @@ public class ApplicationData {
 
     private QuoteList quoteList;
     private CompanyName companyName;
+    // Sequence of the last journal entry covered by this snapshot; omitted from the file when unset
+    private Long journalSequence;
 
     /**
      * No-arg constructor for Gson deserialization.
@@ -36,6 +38,14 @@ public class ApplicationData {
     public CompanyName getCompanyName() {
         return companyName;
     }
+
+    public long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
+    }
+
+    public void setJournalSequence(long journalSequence) {
+        this.journalSequence = journalSequence;
+    }
 }
 
 
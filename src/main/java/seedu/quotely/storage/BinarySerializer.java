@@ -0,0 +1,269 @@
+package seedu.quotely.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Item;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+
+/**
+ * Serializes and deserializes the ApplicationData to/from a compact binary format.
+ *
+ * <p>The file starts with a fixed 20-byte header: the magic number "QTLY", the schema version (short),
+ * reserved flags (short), the payload length (long) and a CRC32 of the payload (int).
+ * The payload stores strings as an int byte length followed by UTF-8 bytes, and numbers at fixed width.
+ * Schema 2 stores prices in cents and tax rates in basis points as longs; schema 1 files, which stored
+ * them as doubles, can still be read.
+ */
+public class BinarySerializer {
+    public static final int MAGIC = 0x51544C59; // "QTLY"
+    public static final short SCHEMA_VERSION = 2;
+    private static final short SCHEMA_VERSION_DOUBLE_AMOUNTS = 1;
+    public static final int HEADER_LENGTH = 20;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+
+    /**
+     * Streams the ApplicationData into the channel, then fills in the header's length and checksum.
+     * The channel must be positioned at the start of an empty file.
+     */
+    public void serialize(ApplicationData appData, FileChannel channel) throws IOException {
+        assert appData != null : "Cannot serialize null ApplicationData";
+        assert channel != null : "Cannot serialize to a null channel";
+
+        long start = channel.position();
+        channel.write(buildHeader(0, 0), start);
+        channel.position(start + HEADER_LENGTH);
+
+        CRC32 checksum = new CRC32();
+        CountingOutputStream counter = new CountingOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        DataOutputStream out = new DataOutputStream(new CheckedOutputStream(counter, checksum));
+        writePayload(appData, out);
+        out.flush();
+
+        channel.write(buildHeader(counter.count, (int) checksum.getValue()), start);
+    }
+
+    /**
+     * Reads ApplicationData from the stream, verifying the header, the payload length and the checksum.
+     * The stream must end right after the payload.
+     *
+     * @throws IOException if the data is not in this format, uses an unknown schema version,
+     *                     is truncated, does not match the header's payload length, or is corrupted
+     */
+    public ApplicationData deserialize(InputStream inputStream) throws IOException {
+        assert inputStream != null : "Cannot deserialize from a null stream";
+
+        DataInputStream headerIn = new DataInputStream(new BufferedInputStream(inputStream, BUFFER_SIZE));
+        int magic;
+        try {
+            magic = headerIn.readInt();
+        } catch (EOFException e) {
+            return new ApplicationData();
+        }
+        if (magic != MAGIC) {
+            throw new IOException("Not a Quotely binary data file");
+        }
+        short version = headerIn.readShort();
+        if (version != SCHEMA_VERSION && version != SCHEMA_VERSION_DOUBLE_AMOUNTS) {
+            throw new IOException("Unsupported binary schema version " + version);
+        }
+        headerIn.readShort(); // reserved flags
+        long payloadLength = headerIn.readLong();
+        int expectedChecksum = headerIn.readInt();
+        if (payloadLength <= 0) {
+            throw new IOException("Binary data file was not completely written");
+        }
+
+        LimitedInputStream limited = new LimitedInputStream(headerIn, payloadLength);
+        CheckedInputStream checked = new CheckedInputStream(limited, new CRC32());
+        DataInputStream in = new DataInputStream(checked);
+        ApplicationData appData;
+        try {
+            appData = readPayload(in, version);
+        } catch (EOFException e) {
+            if (limited.remaining == 0) {
+                throw new IOException("Binary payload is longer than the header's payload length", e);
+            }
+            throw new IOException("Binary data file is truncated", e);
+        }
+        if (limited.remaining != 0) {
+            throw new IOException("Binary payload is shorter than the header's payload length");
+        }
+        if (headerIn.read() != -1) {
+            throw new IOException("Binary data file has data after the payload");
+        }
+        if (checked.getChecksum().getValue() != (expectedChecksum & 0xFFFFFFFFL)) {
+            throw new IOException("Binary data file checksum mismatch");
+        }
+        appData.getQuoteList().validate();
+        return appData;
+    }
+
+    private ByteBuffer buildHeader(long payloadLength, int checksum) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putInt(MAGIC);
+        header.putShort(SCHEMA_VERSION);
+        header.putShort((short) 0);
+        header.putLong(payloadLength);
+        header.putInt(checksum);
+        header.flip();
+        return header;
+    }
+
+    private void writePayload(ApplicationData appData, DataOutputStream out) throws IOException {
+        out.writeLong(appData.getJournalSequence());
+        writeString(out, appData.getCompanyName().getCompanyName());
+
+        QuoteList quoteList = appData.getQuoteList();
+        out.writeInt(quoteList.getQuotes().size());
+        for (Quote quote : quoteList.getQuotes()) {
+            writeString(out, quote.getQuoteName());
+            writeString(out, quote.getCustomerName());
+            out.writeInt(quote.getItems().size());
+            for (Item item : quote.getItems()) {
+                writeString(out, item.getItemName());
+                out.writeLong(item.getPriceCents());
+                out.writeInt(item.getQuantity());
+                out.writeLong(item.getTaxRateBasisPoints());
+            }
+        }
+    }
+
+    private ApplicationData readPayload(DataInputStream in, short version) throws IOException {
+        long journalSequence = in.readLong();
+        CompanyName companyName = new CompanyName(readString(in));
+
+        QuoteList quoteList = new QuoteList();
+        int quoteCount = readCount(in);
+        for (int i = 0; i < quoteCount; i++) {
+            Quote quote = new Quote(readString(in), readString(in));
+            int itemCount = readCount(in);
+            for (int j = 0; j < itemCount; j++) {
+                quote.addItem(readItem(in, version));
+            }
+            quoteList.addQuote(quote);
+        }
+
+        ApplicationData appData = new ApplicationData(quoteList, companyName);
+        appData.setJournalSequence(journalSequence);
+        return appData;
+    }
+
+    private Item readItem(DataInputStream in, short version) throws IOException {
+        String itemName = readString(in);
+        if (version == SCHEMA_VERSION_DOUBLE_AMOUNTS) {
+            double price = in.readDouble();
+            int quantity = in.readInt();
+            double taxRate = in.readDouble();
+            try {
+                return new Item(itemName, price, quantity, taxRate);
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                throw new IOException("Invalid amount for item " + itemName, e);
+            }
+        }
+        long priceCents = in.readLong();
+        int quantity = in.readInt();
+        return Item.ofCents(itemName, priceCents, quantity, in.readLong());
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IOException("Invalid string length " + length + " in binary data file");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid count " + count + " in binary data file");
+        }
+        return count;
+    }
+
+    /**
+     * Counts the bytes written through it, to fill in the payload length afterwards.
+     */
+    private static class CountingOutputStream extends java.io.FilterOutputStream {
+        private long count = 0;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Stops reading after a fixed number of bytes, so the payload cannot run past the header's length.
+     */
+    private static class LimitedInputStream extends java.io.FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Keeps snapshots as a single compact binary file (e.g. data/quotely.bin), see {@link BinarySerializer}.
+ * The file is written to a temporary file first and then moved into place, so a crash never leaves
+ * a partially written snapshot behind.
+ */
+public class BinarySnapshotStore extends SnapshotStore {
+    private static final Logger logger = LoggerConfig.getLogger(BinarySnapshotStore.class);
+
+    private final Path filePath;
+    private final BinarySerializer serializer;
+
+    public BinarySnapshotStore(Path filePath, BinarySerializer serializer) {
+        assert filePath != null && serializer != null : "File path and serializer cannot be null";
+        this.filePath = filePath;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public boolean exists() {
+        return Files.exists(filePath);
+    }
+
+    @Override
+    public ApplicationData load() throws IOException {
+        if (!exists()) {
+            logger.warning("Binary data file not found at " + filePath);
+            return new ApplicationData();
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return serializer.deserialize(in);
+        }
+    }
+
+    @Override
+    public void save(ApplicationData appData) throws IOException {
+        assert appData != null : "Cannot save null ApplicationData";
+
+        Path parentDir = filePath.getParent();
+        if (parentDir != null && !Files.exists(parentDir)) {
+            Files.createDirectories(parentDir);
+        }
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            serializer.serialize(appData, channel);
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public String getLocation() {
+        return filePath.toString();
+    }
+}
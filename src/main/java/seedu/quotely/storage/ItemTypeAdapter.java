@@ -0,0 +1,85 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import seedu.quotely.data.Item;
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Reads and writes an Item in the original JSON layout, with {@code price} and {@code taxRate}
+ * as decimal numbers, while the Item itself holds them as cents and basis points.
+ * Data files written before the fixed-point change therefore load unchanged.
+ * An amount that cannot be held in fixed point is read as an invalid item, so that validation drops
+ * only the quote holding it rather than the whole file.
+ */
+public class ItemTypeAdapter extends TypeAdapter<Item> {
+    // a negative price makes Item.isValid() fail
+    private static final long INVALID_PRICE_CENTS = -1;
+    private static final Logger logger = LoggerConfig.getLogger(ItemTypeAdapter.class);
+
+    @Override
+    public void write(JsonWriter out, Item item) throws IOException {
+        if (item == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("itemName").value(item.getItemName());
+        out.name("price").value(item.getPrice());
+        out.name("quantity").value(item.getQuantity());
+        out.name("taxRate").value(item.getTaxRate());
+        out.endObject();
+    }
+
+    @Override
+    public Item read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String itemName = null;
+        double price = 0;
+        int quantity = 0;
+        double taxRate = 0;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                continue;
+            }
+            switch (name) {
+            case "itemName":
+                itemName = in.nextString();
+                break;
+            case "price":
+                price = in.nextDouble();
+                break;
+            case "quantity":
+                quantity = in.nextInt();
+                break;
+            case "taxRate":
+                taxRate = in.nextDouble();
+                break;
+            default:
+                in.skipValue();
+                break;
+            }
+        }
+        in.endObject();
+
+        try {
+            return new Item(itemName, price, quantity, taxRate);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            logger.warning("Invalid amount for item " + itemName + ": " + e.getMessage());
+            return Item.ofCents(itemName, INVALID_PRICE_CENTS, quantity, 0);
+        }
+    }
+}
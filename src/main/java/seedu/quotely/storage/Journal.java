@@ -0,0 +1,198 @@
+package seedu.quotely.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Append-only write-ahead journal of data mutations.
+ * Each mutating command appends one JSON line instead of rewriting the whole data file.
+ * The journal is replayed on top of the last snapshot on startup and cleared whenever
+ * a new snapshot is written.
+ */
+public class Journal {
+    private static final Logger logger = LoggerConfig.getLogger(Journal.class);
+    private final Gson gson = new Gson();
+    private final Path filePath;
+
+    private long lastSequence = 0;
+    private int size = 0;
+
+    /**
+     * Constructs a Journal stored at the specified file path.
+     *
+     * @param directory The directory to store the journal in (e.g., "data").
+     * @param fileName  The name of the journal file (e.g., "quotely.journal").
+     */
+    public Journal(String directory, String fileName) {
+        assert directory != null && !directory.trim().isEmpty() : "Directory cannot be null or empty";
+        assert fileName != null && !fileName.trim().isEmpty() : "File name cannot be null or empty";
+
+        this.filePath = Paths.get(directory, fileName);
+        logger.info("Journal initialized. Journal file path: " + this.filePath);
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of entries currently held in the journal file.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the sequence number of the most recent entry written or replayed.
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Appends a single entry to the end of the journal, assigning it the next sequence number.
+     */
+    public void append(JournalEntry entry) throws IOException {
+        append(List.of(entry));
+    }
+
+    /**
+     * Appends several entries in one write, assigning them consecutive sequence numbers.
+     * If the write fails, the journal is cut back to its previous length so a retry does not leave a torn line
+     * or duplicate entries behind.
+     */
+    public void append(List<JournalEntry> entries) throws IOException {
+        assert entries != null : "Journal entries cannot be null";
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Path parentDir = filePath.getParent();
+        if (parentDir != null && !Files.exists(parentDir)) {
+            Files.createDirectories(parentDir);
+        }
+        long originalLength = Files.exists(filePath) ? Files.size(filePath) : 0;
+        boolean isLineOpen = originalLength > 0 && !endsWithNewline(originalLength);
+        long sequence = lastSequence;
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (isLineOpen) {
+                // a torn line left by an earlier failure must not swallow the first new entry
+                writer.newLine();
+            }
+            for (JournalEntry entry : entries) {
+                assert entry != null : "Journal entry cannot be null";
+                entry.setSequence(++sequence);
+                writer.write(gson.toJson(entry));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            truncate(originalLength);
+            throw e;
+        }
+        lastSequence = sequence;
+        size += entries.size();
+        logger.fine("Appended " + entries.size() + " journal entries up to sequence " + lastSequence);
+    }
+
+    private boolean endsWithNewline(long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, length - 1);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    /**
+     * Cuts the journal back to the given length after a failed append, keeping the original failure if this fails too.
+     */
+    private void truncate(long length) {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        } catch (IOException e) {
+            logger.warning("Failed to cut the journal back after a failed append: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Re-applies every journal entry newer than the snapshot onto the given data, in sequence order.
+     * Malformed lines (e.g. a write interrupted by a crash) are skipped, and an entry whose sequence number
+     * was already applied (e.g. rewritten by a retry after a failed append) is applied only once.
+     *
+     * @param appData the snapshot data to apply the entries to
+     * @return the number of entries applied
+     */
+    public int replay(ApplicationData appData) throws IOException {
+        assert appData != null : "Cannot replay onto null ApplicationData";
+
+        long snapshotSequence = appData.getJournalSequence();
+        lastSequence = Math.max(lastSequence, snapshotSequence);
+        size = 0;
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        long appliedSequence = snapshotSequence;
+        int applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                JournalEntry entry;
+                try {
+                    entry = gson.fromJson(line, JournalEntry.class);
+                } catch (JsonParseException e) {
+                    logger.warning("Skipping malformed journal entry: " + e.getMessage());
+                    continue;
+                }
+                if (entry == null || entry.getType() == null) {
+                    logger.warning("Skipping incomplete journal entry");
+                    continue;
+                }
+                size++;
+                lastSequence = Math.max(lastSequence, entry.getSequence());
+                if (entry.getSequence() <= appliedSequence) {
+                    continue;
+                }
+                appliedSequence = entry.getSequence();
+                try {
+                    entry.applyTo(appData.getQuoteList(), appData.getCompanyName());
+                    applied++;
+                } catch (QuotelyException e) {
+                    logger.warning("Skipping journal entry " + entry.getSequence() + ": " + e.getMessage());
+                }
+            }
+        }
+        logger.info("Replayed " + applied + " journal entries from " + filePath);
+        return applied;
+    }
+
+    /**
+     * Empties the journal once its entries are covered by a snapshot.
+     */
+    public void clear() throws IOException {
+        if (Files.exists(filePath)) {
+            Files.write(filePath, new byte[0]);
+        }
+        size = 0;
+        logger.fine("Journal cleared");
+    }
+}
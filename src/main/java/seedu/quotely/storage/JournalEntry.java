@@ -0,0 +1,119 @@
+package seedu.quotely.storage;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.exception.QuotelyException;
+
+/**
+ * A single data mutation recorded in the {@link Journal}.
+ * Each entry carries just enough information to re-apply the mutation on top of a snapshot.
+ */
+public class JournalEntry {
+    /**
+     * Kinds of mutation that can be recorded.
+     */
+    public enum Type {
+        REGISTER,
+        ADD_QUOTE,
+        DELETE_QUOTE,
+        ADD_ITEM,
+        DELETE_ITEM
+    }
+
+    private long sequence;
+    private Type type;
+    private String companyName;
+    private String quoteName;
+    private String customerName;
+    private String itemName;
+    private double price;
+    private int quantity;
+    private double taxRate;
+
+    private JournalEntry(Type type) {
+        this.type = type;
+    }
+
+    public static JournalEntry register(String companyName) {
+        JournalEntry entry = new JournalEntry(Type.REGISTER);
+        entry.companyName = companyName;
+        return entry;
+    }
+
+    public static JournalEntry addQuote(String quoteName, String customerName) {
+        JournalEntry entry = new JournalEntry(Type.ADD_QUOTE);
+        entry.quoteName = quoteName;
+        entry.customerName = customerName;
+        return entry;
+    }
+
+    public static JournalEntry deleteQuote(String quoteName) {
+        JournalEntry entry = new JournalEntry(Type.DELETE_QUOTE);
+        entry.quoteName = quoteName;
+        return entry;
+    }
+
+    public static JournalEntry addItem(String quoteName, String itemName, double price, int quantity,
+                                       double taxRate) {
+        JournalEntry entry = new JournalEntry(Type.ADD_ITEM);
+        entry.quoteName = quoteName;
+        entry.itemName = itemName;
+        entry.price = price;
+        entry.quantity = quantity;
+        entry.taxRate = taxRate;
+        return entry;
+    }
+
+    public static JournalEntry deleteItem(String quoteName, String itemName) {
+        JournalEntry entry = new JournalEntry(Type.DELETE_ITEM);
+        entry.quoteName = quoteName;
+        entry.itemName = itemName;
+        return entry;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Re-applies this mutation to the given data.
+     *
+     * @param quoteList   the quote list to mutate
+     * @param companyName the company name to mutate
+     * @throws QuotelyException if the quote or item referenced by this entry does not exist
+     */
+    public void applyTo(QuoteList quoteList, CompanyName companyName) throws QuotelyException {
+        assert type != null : "Journal entry must have a type";
+
+        switch (type) {
+        case REGISTER:
+            companyName.setCompanyName(this.companyName);
+            break;
+        case ADD_QUOTE:
+            if (!quoteList.hasQuote(quoteName)) {
+                quoteList.addQuote(new Quote(quoteName, customerName));
+            }
+            break;
+        case DELETE_QUOTE:
+            quoteList.removeQuote(quoteList.getQuoteByName(quoteName));
+            break;
+        case ADD_ITEM:
+            quoteList.getQuoteByName(quoteName).addItem(itemName, price, quantity, taxRate);
+            break;
+        case DELETE_ITEM:
+            quoteList.getQuoteByName(quoteName).removeItem(itemName);
+            break;
+        default:
+            throw new QuotelyException(QuotelyException.ErrorType.FILE_ERROR);
+        }
+    }
+}
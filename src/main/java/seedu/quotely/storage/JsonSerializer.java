@@ -1,12 +1,18 @@
 package seedu.quotely.storage;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.logging.Logger;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
-
+import seedu.quotely.data.Item;
 import seedu.quotely.util.LoggerConfig;
 
 /**
@@ -14,7 +20,10 @@ import seedu.quotely.util.LoggerConfig;
  */
 public class JsonSerializer {
     private static final Logger logger = LoggerConfig.getLogger(JsonSerializer.class);
-    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final Gson gson = new GsonBuilder()
+            .setPrettyPrinting()
+            .registerTypeAdapter(Item.class, new ItemTypeAdapter())
+            .create();
 
     /**
      * Converts an ApplicationData object into a JSON string.
@@ -24,6 +33,23 @@ public class JsonSerializer {
         return gson.toJson(appData);
     }
 
+    /**
+     * Streams an ApplicationData object as JSON straight into the given writer,
+     * without building the whole document as a String first.
+     */
+    public void serialize(ApplicationData appData, Writer writer) throws IOException {
+        assert appData != null : "Cannot serialize null ApplicationData";
+        assert writer != null : "Cannot serialize to a null Writer";
+
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        try {
+            gson.toJson(appData, ApplicationData.class, jsonWriter);
+        } catch (JsonIOException e) {
+            throw new IOException("Failed to write ApplicationData as JSON", e);
+        }
+        jsonWriter.flush();
+    }
+
     /**
      * Converts a JSON string back into an ApplicationData object.
      * Defensive: catches parse errors, returns new ApplicationData on failure,
@@ -35,26 +61,45 @@ public class JsonSerializer {
         }
 
         try {
-            ApplicationData appData = gson.fromJson(json, ApplicationData.class);
-            if (appData == null) {
-                return new ApplicationData();
-            }
-
-            // Validate the loaded QuoteList (as in your original code)
-            if (appData.getQuoteList() != null) {
-                appData.getQuoteList().validate();
-            } else {
-                // Handle case where quotelist might be null in a corrupt file
-                logger.warning("Loaded data contained a null QuoteList. Initializing a new one.");
-                // This scenario shouldn't happen with the current ApplicationData constructor,
-                // but it's safe to check.
-            }
-
-            return appData;
+            return validate(gson.fromJson(json, ApplicationData.class));
         } catch (JsonParseException e) {
             logger.warning("Failed to parse ApplicationData from JSON: " + e.getMessage());
             return new ApplicationData();
         }
     }
+
+    /**
+     * Parses an ApplicationData object directly from a character stream, so the file never
+     * has to be held in memory as a whole String.
+     * Defensive in the same way as {@link #deserialize(String)}.
+     */
+    public ApplicationData deserialize(Reader reader) {
+        assert reader != null : "Cannot deserialize from a null Reader";
+
+        try {
+            JsonReader jsonReader = gson.newJsonReader(reader);
+            return validate(gson.fromJson(jsonReader, ApplicationData.class));
+        } catch (JsonParseException e) {
+            logger.warning("Failed to parse ApplicationData from JSON: " + e.getMessage());
+            return new ApplicationData();
+        }
+    }
+
+    private ApplicationData validate(ApplicationData appData) {
+        if (appData == null) {
+            return new ApplicationData();
+        }
+
+        // Validate the loaded QuoteList (as in your original code)
+        if (appData.getQuoteList() != null) {
+            appData.getQuoteList().validate();
+        } else {
+            // Handle case where quotelist might be null in a corrupt file
+            logger.warning("Loaded data contained a null QuoteList. Initializing a new one.");
+            // This scenario shouldn't happen with the current ApplicationData constructor,
+            // but it's safe to check.
+        }
+        return appData;
+    }
 }
 
@@ -0,0 +1,38 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Keeps snapshots as a single JSON file (e.g. data/quotely.json).
+ */
+public class JsonSnapshotStore extends SnapshotStore {
+    private final Storage storage;
+    private final JsonSerializer serializer;
+
+    public JsonSnapshotStore(Storage storage, JsonSerializer serializer) {
+        assert storage != null && serializer != null : "Storage and serializer cannot be null";
+        this.storage = storage;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public boolean exists() {
+        return Files.exists(storage.getDataFilePath());
+    }
+
+    @Override
+    public ApplicationData load() throws IOException {
+        return storage.readData(serializer::deserialize);
+    }
+
+    @Override
+    public void save(ApplicationData appData) throws IOException {
+        storage.writeData(writer -> serializer.serialize(appData, writer));
+    }
+
+    @Override
+    public String getLocation() {
+        return storage.getDataFilePath().toString();
+    }
+}
@@ -0,0 +1,195 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Writes journal entries and snapshots on a background thread so the command loop never waits for the disk.
+ * Requests that arrive while a write is in progress are coalesced: pending journal entries are appended
+ * in one write, and a snapshot request supersedes every entry queued before it.
+ */
+public class PersistenceService {
+    private static final Logger logger = LoggerConfig.getLogger(PersistenceService.class);
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final SnapshotStore snapshotStore;
+    private final Journal journal;
+    private final Thread worker;
+
+    // all fields below are guarded by this
+    private final List<JournalEntry> pendingEntries = new ArrayList<>();
+    private ApplicationData pendingSnapshot;
+    private int journalLength;
+    private boolean isWriting = false;
+    private boolean isRunning = true;
+    private IOException lastFailure;
+
+    /**
+     * Starts the background writer for the given snapshot store and journal.
+     * The journal must already have been replayed so its sequence numbers are up to date.
+     */
+    public PersistenceService(SnapshotStore snapshotStore, Journal journal) {
+        assert snapshotStore != null && journal != null : "Persistence targets cannot be null";
+
+        this.snapshotStore = snapshotStore;
+        this.journal = journal;
+        this.journalLength = journal.size();
+
+        worker = new Thread(this::runWorker, "quotely-persistence");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queues a journal entry to be appended.
+     */
+    public synchronized void append(JournalEntry entry) {
+        assert entry != null : "Journal entry cannot be null";
+        pendingEntries.add(entry);
+        journalLength++;
+        notifyAll();
+    }
+
+    /**
+     * Queues a snapshot to be written, after which the journal is cleared.
+     * The snapshot must be a private copy that the caller will not modify afterwards.
+     */
+    public synchronized void saveSnapshot(ApplicationData snapshot) {
+        assert snapshot != null : "Snapshot cannot be null";
+        // the snapshot already contains every change described by the queued entries
+        pendingEntries.clear();
+        pendingSnapshot = snapshot;
+        journalLength = 0;
+        notifyAll();
+    }
+
+    /**
+     * Returns the number of journal entries written or queued since the last snapshot.
+     */
+    public synchronized int getJournalLength() {
+        return journalLength;
+    }
+
+    /**
+     * Returns and clears the most recent write failure, or null if every write succeeded.
+     */
+    public synchronized IOException takeFailure() {
+        IOException failure = lastFailure;
+        lastFailure = null;
+        return failure;
+    }
+
+    /**
+     * Blocks until everything queued so far has been written, or a write has failed.
+     */
+    public synchronized void flush() {
+        while ((hasPendingWork() || isWriting) && lastFailure == null && worker.isAlive()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes everything still queued and stops the background writer.
+     * Safe to call more than once, e.g. from both the exit path and a shutdown hook.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            isRunning = false;
+            notifyAll();
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean hasPendingWork() {
+        return pendingSnapshot != null || !pendingEntries.isEmpty();
+    }
+
+    private void runWorker() {
+        while (true) {
+            ApplicationData snapshot;
+            List<JournalEntry> entries;
+            synchronized (this) {
+                while (isRunning && !hasPendingWork()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        isRunning = false;
+                    }
+                }
+                if (!hasPendingWork()) {
+                    return;
+                }
+                snapshot = pendingSnapshot;
+                entries = new ArrayList<>(pendingEntries);
+                pendingSnapshot = null;
+                pendingEntries.clear();
+                isWriting = true;
+            }
+
+            try {
+                if (snapshot != null) {
+                    writeSnapshot(snapshot);
+                    snapshot = null;
+                }
+                journal.append(entries);
+                entries.clear();
+            } catch (IOException e) {
+                logger.severe("Failed to save data in the background: " + e.getMessage());
+                if (!requeueAfterFailure(snapshot, entries, e)) {
+                    return;
+                }
+            } finally {
+                synchronized (this) {
+                    isWriting = false;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private void writeSnapshot(ApplicationData snapshot) throws IOException {
+        snapshot.setJournalSequence(journal.getLastSequence());
+        snapshotStore.save(snapshot);
+        journal.clear();
+        logger.info("Snapshot saved successfully to " + snapshotStore.getLocation());
+    }
+
+    /**
+     * Puts unwritten work back at the front of the queue and waits before retrying.
+     *
+     * @return false if the service is stopping and the work should be dropped
+     */
+    private synchronized boolean requeueAfterFailure(ApplicationData snapshot, List<JournalEntry> entries,
+                                                     IOException failure) {
+        lastFailure = failure;
+        if (!isRunning) {
+            logger.severe("Dropping unsaved changes during shutdown");
+            return false;
+        }
+        // a snapshot requested in the meantime already covers the failed work
+        if (pendingSnapshot == null) {
+            pendingSnapshot = snapshot;
+            pendingEntries.addAll(0, entries);
+        }
+        notifyAll();
+        try {
+            wait(RETRY_DELAY_MS);
+        } catch (InterruptedException e) {
+            isRunning = false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,256 @@
+package seedu.quotely.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Item;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Keeps snapshots as one JSON file per quote plus a small manifest holding the company name
+ * and the quote order. Saving only rewrites the shards of quotes that changed since the last save.
+ *
+ * <p>Shards are copy-on-write: a changed quote is written to a new file named after the save generation,
+ * the manifest is then replaced atomically, and only afterwards are the superseded files deleted.
+ * A crash at any point leaves the previous manifest and all the shards it references intact.
+ */
+public class ShardedSnapshotStore extends SnapshotStore {
+    private static final Logger logger = LoggerConfig.getLogger(ShardedSnapshotStore.class);
+    private static final String MANIFEST_FILENAME = "manifest.json";
+    private static final String SHARD_EXTENSION = ".json";
+    private static final int MAX_SHARD_PREFIX_LENGTH = 40;
+
+    private final Gson gson = new GsonBuilder().registerTypeAdapter(Item.class, new ItemTypeAdapter()).create();
+    private final Path directory;
+
+    // shard file currently holding each quote, keyed by shard id; ids are unique per quote, see getUniqueShardId
+    private final Map<String, ShardRecord> writtenShards = new HashMap<>();
+    private long generation = 0;
+
+    /**
+     * Contents of the manifest file.
+     */
+    private static class Manifest {
+        private String companyName;
+        private long journalSequence;
+        private long generation;
+        private List<String> shards = new ArrayList<>();
+    }
+
+    /**
+     * The version of a quote held in a shard file.
+     */
+    private static class ShardRecord {
+        private final long version;
+        private final String fileName;
+
+        ShardRecord(long version, String fileName) {
+            this.version = version;
+            this.fileName = fileName;
+        }
+    }
+
+    /**
+     * Constructs a store keeping its shards and manifest in the given directory (e.g. data/quotes).
+     */
+    public ShardedSnapshotStore(Path directory) {
+        assert directory != null : "Directory cannot be null";
+        this.directory = directory;
+    }
+
+    @Override
+    public boolean exists() {
+        return Files.exists(directory.resolve(MANIFEST_FILENAME));
+    }
+
+    @Override
+    public String getLocation() {
+        return directory.toString();
+    }
+
+    /**
+     * Loads the manifest and then reads all shards in parallel, keeping the manifest's quote order.
+     * Shards that cannot be parsed are skipped.
+     */
+    @Override
+    public ApplicationData load() throws IOException {
+        writtenShards.clear();
+        if (!exists()) {
+            logger.warning("Shard manifest not found in " + directory);
+            return new ApplicationData();
+        }
+
+        Manifest manifest;
+        try (BufferedReader reader = Files.newBufferedReader(directory.resolve(MANIFEST_FILENAME),
+                StandardCharsets.UTF_8)) {
+            manifest = gson.fromJson(reader, Manifest.class);
+        } catch (JsonParseException e) {
+            throw new IOException("Shard manifest is corrupted", e);
+        }
+        if (manifest == null || manifest.shards == null) {
+            throw new IOException("Shard manifest is incomplete");
+        }
+        generation = manifest.generation;
+
+        List<Quote> quotes;
+        try {
+            quotes = manifest.shards.parallelStream()
+                    .map(this::readShard)
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        QuoteList quoteList = new QuoteList();
+        Map<Quote, String> shardFiles = new IdentityHashMap<>();
+        for (int i = 0; i < quotes.size(); i++) {
+            Quote quote = quotes.get(i);
+            if (quote == null || quote.getQuoteName() == null) {
+                continue;
+            }
+            quoteList.addQuote(quote);
+            shardFiles.put(quote, manifest.shards.get(i));
+        }
+        quoteList.validate();
+        // number the shards of the quotes that were kept the same way save() will
+        for (Quote quote : quoteList.getQuotes()) {
+            writtenShards.put(getUniqueShardId(quote.getQuoteName(), writtenShards),
+                    new ShardRecord(quote.getVersion(), shardFiles.get(quote)));
+        }
+        deleteUnreferencedShards(new HashSet<>(manifest.shards));
+
+        ApplicationData appData = new ApplicationData(quoteList,
+                new CompanyName(manifest.companyName != null ? manifest.companyName : "Default"));
+        appData.setJournalSequence(manifest.journalSequence);
+        logger.info("Loaded " + quoteList.getQuotes().size() + " quote shards from " + directory);
+        return appData;
+    }
+
+    /**
+     * Writes the shards of quotes changed since the last save, then the manifest,
+     * then removes shards that are no longer referenced.
+     */
+    @Override
+    public void save(ApplicationData appData) throws IOException {
+        assert appData != null : "Cannot save null ApplicationData";
+
+        Files.createDirectories(directory);
+        generation++;
+
+        Manifest manifest = new Manifest();
+        manifest.companyName = appData.getCompanyName().getCompanyName();
+        manifest.journalSequence = appData.getJournalSequence();
+        manifest.generation = generation;
+
+        Map<String, ShardRecord> currentShards = new HashMap<>();
+        int rewritten = 0;
+        for (Quote quote : appData.getQuoteList().getQuotes()) {
+            String shardId = getUniqueShardId(quote.getQuoteName(), currentShards);
+            ShardRecord record = writtenShards.get(shardId);
+            if (record == null || record.version != quote.getVersion()) {
+                record = new ShardRecord(quote.getVersion(), shardId + "." + generation + SHARD_EXTENSION);
+                writeAtomically(directory.resolve(record.fileName), gson.toJson(quote));
+                rewritten++;
+            }
+            currentShards.put(shardId, record);
+            manifest.shards.add(record.fileName);
+        }
+        writeAtomically(directory.resolve(MANIFEST_FILENAME), gson.toJson(manifest));
+
+        Set<String> referenced = new HashSet<>(manifest.shards);
+        for (ShardRecord record : writtenShards.values()) {
+            if (!referenced.contains(record.fileName)) {
+                Files.deleteIfExists(directory.resolve(record.fileName));
+            }
+        }
+        writtenShards.clear();
+        writtenShards.putAll(currentShards);
+        logger.info("Saved snapshot to " + directory + ", rewrote " + rewritten + " of "
+                + currentShards.size() + " quote shards");
+    }
+
+    /**
+     * Returns a stable, file-system safe identifier for the shard of the quote with the given name.
+     * Quote names are case-insensitive, so the identifier is too.
+     */
+    static String getShardId(String quoteName) {
+        String normalized = quoteName.toLowerCase(Locale.ROOT);
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < normalized.length() && prefix.length() < MAX_SHARD_PREFIX_LENGTH; i++) {
+            char c = normalized.charAt(i);
+            prefix.append((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' ? c : '_');
+        }
+        return prefix + "-" + String.format("%08x", normalized.hashCode());
+    }
+
+    /**
+     * Returns the shard id of the quote with the given name, numbering it if an earlier quote in the list
+     * already has that id. Quotes whose names differ only in case, e.g. from a hand-edited file, thus get
+     * their own shards, numbered in list order.
+     */
+    private static String getUniqueShardId(String quoteName, Map<String, ShardRecord> taken) {
+        String shardId = getShardId(quoteName);
+        String uniqueId = shardId;
+        for (int n = 2; taken.containsKey(uniqueId); n++) {
+            uniqueId = shardId + "-" + n;
+        }
+        return uniqueId;
+    }
+
+    private Quote readShard(String fileName) {
+        try (BufferedReader reader = Files.newBufferedReader(directory.resolve(fileName), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, Quote.class);
+        } catch (JsonParseException e) {
+            logger.warning("Skipping corrupted quote shard " + fileName + ": " + e.getMessage());
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeAtomically(Path path, String data) throws IOException {
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(tempPath, data.getBytes(StandardCharsets.UTF_8));
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Removes shard files left behind by a save that was interrupted before it could clean up.
+     */
+    private void deleteUnreferencedShards(Set<String> referenced) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SHARD_EXTENSION + "*")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!Objects.equals(fileName, MANIFEST_FILENAME) && !referenced.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to clean up unreferenced quote shards: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+
+/**
+ * A place where complete snapshots of the ApplicationData are kept.
+ * Individual mutations between snapshots are recorded separately in the {@link Journal}.
+ */
+public abstract class SnapshotStore {
+
+    /**
+     * Returns true if a snapshot has been saved to this store before.
+     */
+    public abstract boolean exists();
+
+    /**
+     * Loads the most recently saved snapshot, or empty data if there is none.
+     */
+    public abstract ApplicationData load() throws IOException;
+
+    /**
+     * Saves a complete snapshot, replacing the previous one.
+     */
+    public abstract void save(ApplicationData appData) throws IOException;
+
+    /**
+     * Returns a description of where the snapshot is kept, for logging.
+     */
+    public abstract String getLocation();
+}
@@ -1,9 +1,16 @@
 package seedu.quotely.storage;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.logging.Logger;
 import seedu.quotely.util.LoggerConfig;
 
@@ -15,6 +22,20 @@ public class Storage {
     private static final Logger logger = LoggerConfig.getLogger(Storage.class);
     private final Path filePath;
 
+    /**
+     * Writes data to the character stream backing the data file.
+     */
+    public interface DataWriter {
+        void write(Writer writer) throws IOException;
+    }
+
+    /**
+     * Reads data from the character stream backing the data file.
+     */
+    public interface DataReader<T> {
+        T read(Reader reader) throws IOException;
+    }
+
     /**
      * Constructs a Storage object to manage data at the specified file path.
      *
@@ -70,16 +91,52 @@ public class Storage {
         }
     }
 
+    /**
+     * Streams the application data from the file through the given reader, so the file is never
+     * held in memory as a whole String. A missing file is read as empty.
+     */
+    public <T> T readData(DataReader<T> dataReader) throws IOException {
+        assert dataReader != null : "Data reader cannot be null";
+
+        if (!Files.exists(filePath)) {
+            logger.warning("Data file not found, will attempt to create a new one: " + filePath);
+            ensureDirectoryExists();
+            return dataReader.read(new StringReader(""));
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            T data = dataReader.read(reader);
+            logger.info("Successfully loaded data from " + filePath);
+            return data;
+        } catch (IOException e) {
+            logger.severe("Failed to read data from file: " + filePath);
+            throw e;
+        }
+    }
+
     /**
      * Saves the application data (as a String) to the file.
      */
     public void saveData(String data) throws IOException {
-
         assert data != null : "Data to be saved cannot be null";
+        writeData(writer -> writer.write(data));
+    }
+
+    /**
+     * Streams the application data into the file through a buffered writer.
+     * The data is written to a temporary file first and then moved over the data file,
+     * so a crash mid-write never leaves a truncated snapshot behind.
+     */
+    public void writeData(DataWriter dataWriter) throws IOException {
+        assert dataWriter != null : "Data writer cannot be null";
 
         try {
             ensureDirectoryExists();
-            Files.write(filePath, data.getBytes());
+            Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                dataWriter.write(writer);
+            }
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
             logger.info("Successfully saved data to " + filePath);
         } catch (IOException e) {
             logger.severe("Failed to save data to file: " + e.getMessage());
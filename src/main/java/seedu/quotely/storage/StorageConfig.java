@@ -0,0 +1,75 @@
+package seedu.quotely.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Storage settings, read from an optional properties file in the data directory
+ * (e.g. data/quotely.properties) and overridable with JVM system properties
+ * (e.g. -Dquotely.storage.format=sharded or binary).
+ */
+public class StorageConfig {
+    /**
+     * Layouts available for snapshots.
+     */
+    public enum Format {
+        JSON,
+        SHARDED,
+        BINARY
+    }
+
+    public static final String CONFIG_FILENAME = "quotely.properties";
+    public static final String FORMAT_KEY = "quotely.storage.format";
+
+    private static final Logger logger = LoggerConfig.getLogger(StorageConfig.class);
+
+    private final Properties properties;
+
+    private StorageConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Reads the storage settings for the given data directory.
+     * Missing or unreadable files fall back to the defaults.
+     */
+    public static StorageConfig load(String directory) {
+        Properties properties = new Properties();
+        Path configPath = Paths.get(directory, CONFIG_FILENAME);
+        if (Files.exists(configPath)) {
+            try (InputStream in = Files.newInputStream(configPath)) {
+                properties.load(in);
+                logger.info("Loaded storage configuration from " + configPath);
+            } catch (IOException e) {
+                logger.warning("Failed to read storage configuration, using defaults: " + e.getMessage());
+            }
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("quotely.")) {
+                properties.setProperty(key, System.getProperty(key));
+            }
+        }
+        return new StorageConfig(properties);
+    }
+
+    /**
+     * Returns the configured snapshot format, JSON if unset or unrecognised.
+     */
+    public Format getFormat() {
+        String value = properties.getProperty(FORMAT_KEY, Format.JSON.name());
+        try {
+            return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Unknown storage format '" + value + "', using JSON");
+            return Format.JSON;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.quotely.ui;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+
+/**
+ * Keeps the boxed table of each quote shown, so showing an unchanged quote again costs one lookup.
+ *
+ * <p>An entry records the quote's version and the company name it was rendered with. Adding, changing or
+ * removing an item gives the quote a new version and registering a company changes the name, so a stale
+ * entry is simply rendered again on its next use; commands never need to clear the cache themselves.
+ * Quotes are held weakly, so a deleted quote's entry goes away with the quote.
+ */
+class QuoteRenderCache {
+    private final QuoteRenderer renderer;
+    private final Map<Quote, RenderedQuote> entries = new WeakHashMap<>();
+
+    QuoteRenderCache(QuoteRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Returns the boxed table of the quote, rendering it only if it changed since it was last rendered.
+     */
+    String get(CompanyName companyName, Quote q) {
+        String name = companyName.getCompanyName();
+        RenderedQuote entry = entries.get(q);
+        if (entry != null && entry.version == q.getVersion() && entry.companyName.equals(name)) {
+            return entry.text;
+        }
+        StringBuilder sb = new StringBuilder();
+        renderer.render(sb, companyName, q);
+        entry = new RenderedQuote(q.getVersion(), name, sb.toString());
+        entries.put(q, entry);
+        return entry.text;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * The text of a quote as rendered for one version of the quote and one company name.
+     */
+    private static class RenderedQuote {
+        private final long version;
+        private final String companyName;
+        private final String text;
+
+        RenderedQuote(long version, String companyName, String text) {
+            this.version = version;
+            this.companyName = companyName;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.quotely.ui;
+
+import java.util.Arrays;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Item;
+import seedu.quotely.data.Money;
+import seedu.quotely.data.Quote;
+
+/**
+ * Renders a quote as the boxed table shown by {@link Ui#showQuote}.
+ *
+ * <p>The column layout and every fixed line of the box are worked out once, when the renderer is created.
+ * Each quote is then written straight into the caller's StringBuilder, padding names and numbers by hand,
+ * so rendering parses no format strings and allocates little besides what the StringBuilder needs.
+ */
+class QuoteRenderer {
+    private static final String TITLE = "QUOTE";
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    // ===== one inner width for the whole box: chars between the two side pipes =====
+    private static final int BOX_INNER = 60;
+
+    // items table columns (these MUST sum to BOX_INNER - 8)
+    private static final int W_QTY = 3;
+    private static final int W_UNIT = 10;
+    private static final int W_TAX = 8;
+    private static final int W_DESC = BOX_INNER - W_QTY - W_UNIT - W_TAX - 9; // 9 accounts for " | ", " | "
+
+    // totals block (left margin + label + space + amount = BOX_INNER)
+    private static final int AMT_W = 15; // width for "$xx.xx" (left aligned)
+    private static final int INDENT = 34; // left margin before totals
+    private static final int LABEL_W = BOX_INNER - INDENT - AMT_W - 1; // -1 for the single space before amount
+
+    private final char[] spaces = new char[BOX_INNER];
+    private final String titleLine;
+    private final String dashLine;
+    private final String footerLine;
+    private final String tableHeader;
+    private final String emptyRow;
+    private final String blankLine;
+    private final String subtotalLabel;
+    private final String taxLabel;
+    private final String totalLabel;
+
+    QuoteRenderer() {
+        Arrays.fill(spaces, ' ');
+
+        int pad = Math.max(0, BOX_INNER + 4 - TITLE.length());
+        int left = pad / 2;
+        titleLine = "_".repeat(left) + TITLE + "_".repeat(pad - left) + LINE_SEPARATOR;
+        dashLine = "|" + "-".repeat(BOX_INNER + 2) + "|" + LINE_SEPARATOR;
+        footerLine = "|" + "_".repeat(BOX_INNER + 2) + "|" + LINE_SEPARATOR;
+        tableHeader = row("Description", "QTY", "Unit cost", "Tax Rate");
+        emptyRow = row("(no items)", "-", "-", "-");
+        blankLine = "| " + " ".repeat(BOX_INNER) + " |" + LINE_SEPARATOR;
+        subtotalLabel = summaryLabel("Subtotal:");
+        taxLabel = summaryLabel("GST:");
+        totalLabel = summaryLabel("Total:");
+    }
+
+    /**
+     * Appends the boxed table of the quote, ending with a line separator.
+     */
+    void render(StringBuilder sb, CompanyName companyName, Quote q) {
+        sb.append(titleLine);
+        appendInfoLine(sb, "Company name: ", companyName.getCompanyName());
+        appendInfoLine(sb, "Quote ID: ", q.getQuoteName());
+        appendInfoLine(sb, "Customer name: ", q.getCustomerName());
+        sb.append(dashLine);
+
+        sb.append(tableHeader);
+        sb.append(dashLine);
+        if (q.getItems().isEmpty()) {
+            sb.append(emptyRow);
+        } else {
+            for (Item item : q.getItems()) {
+                appendItemRow(sb, item);
+            }
+        }
+        sb.append(dashLine);
+        sb.append(blankLine);
+
+        appendSummaryLine(sb, subtotalLabel, q.getSubtotalCents());
+        appendSummaryLine(sb, taxLabel, q.getTaxCents());
+        appendSummaryLine(sb, totalLabel, q.getTotalCents());
+        sb.append(footerLine);
+    }
+
+    /**
+     * Appends a one-line summary of the quote, e.g. "3. Office refit for Bob - 4 items, total $12.34".
+     */
+    void renderSummary(StringBuilder sb, int number, Quote q) {
+        int itemCount = q.getItems().size();
+        sb.append(number).append(". ").append(q.getQuoteName())
+                .append(" for ").append(q.getCustomerName())
+                .append(" - ").append(itemCount).append(itemCount == 1 ? " item" : " items")
+                .append(", total $");
+        Money.appendTo(sb, q.getTotalCents());
+        sb.append(LINE_SEPARATOR);
+    }
+
+    private void appendInfoLine(StringBuilder sb, String label, String value) {
+        sb.append("| ").append(label).append(value);
+        padRight(sb, BOX_INNER - label.length() - value.length());
+        sb.append(" |").append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends "| name | qty | $price | tax %|", cutting the name to its column and right-aligning the numbers.
+     */
+    private void appendItemRow(StringBuilder sb, Item item) {
+        String name = item.getItemName();
+        int nameLength = Math.min(name.length(), W_DESC);
+        sb.append("| ").append(name, 0, nameLength);
+        padRight(sb, W_DESC - nameLength);
+
+        sb.append(" | ");
+        int start = sb.length();
+        sb.append(item.getQuantity());
+        padLeft(sb, start, W_QTY);
+
+        sb.append(" | $");
+        start = sb.length();
+        Money.appendTo(sb, item.getPriceCents());
+        padLeft(sb, start, W_UNIT - 1);
+
+        sb.append(" | ");
+        start = sb.length();
+        Money.appendTo(sb, item.getTaxRateBasisPoints());
+        padLeft(sb, start, W_TAX - 1);
+        sb.append(" %|").append(LINE_SEPARATOR);
+    }
+
+    private void appendSummaryLine(StringBuilder sb, String label, long cents) {
+        sb.append(label).append('$');
+        int start = sb.length() - 1;
+        Money.appendTo(sb, cents);
+        padRight(sb, AMT_W - (sb.length() - start));
+        sb.append(" |").append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends up to the width of the box in spaces; nothing if {@code count} is not positive.
+     */
+    private void padRight(StringBuilder sb, int count) {
+        if (count > 0) {
+            sb.append(spaces, 0, Math.min(count, spaces.length));
+        }
+    }
+
+    /**
+     * Right-aligns the text appended since {@code start} in a column of the given width.
+     */
+    private void padLeft(StringBuilder sb, int start, int width) {
+        int count = width - (sb.length() - start);
+        if (count > 0) {
+            sb.insert(start, spaces, 0, count);
+        }
+    }
+
+    /**
+     * Returns a table row with the description left-aligned and the other columns right-aligned.
+     * Only used for the fixed rows, when the renderer is created.
+     */
+    private static String row(String description, String qty, String unit, String tax) {
+        String rowFormat = "| %-" + W_DESC + "s | %" + W_QTY + "s | %" + W_UNIT + "s | %" + W_TAX + "s |%n";
+        return String.format(rowFormat, description, qty, unit, tax);
+    }
+
+    /**
+     * Returns the start of a summary line: the left margin and the label padded to its column.
+     */
+    private static String summaryLabel(String label) {
+        return String.format("| %" + INDENT + "s%-" + LABEL_W + "s ", "", label);
+    }
+}
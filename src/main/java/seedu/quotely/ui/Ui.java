@@ -1,15 +1,27 @@
 package seedu.quotely.ui;
 
 import seedu.quotely.data.CompanyName;
-import seedu.quotely.data.Item;
 import seedu.quotely.data.Quote;
 import seedu.quotely.data.QuotelyState;
 
 import java.util.Scanner;
 
+/**
+ * Shows output to the user and reads their commands.
+ *
+ * <p>Output is collected in a buffer and written to standard output in one go by {@link #flush()}, which
+ * {@code Quotely} calls once per command, instead of flushing the console after every line. Reading a command
+ * flushes first so the prompt appears, and a large output is written out early once the buffer fills up.
+ */
 public class Ui {
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
     private static Ui ui = null;
     private Scanner scanner;
+    private final StringBuilder output = new StringBuilder(OUTPUT_BUFFER_SIZE);
+    private final QuoteRenderer quoteRenderer = new QuoteRenderer();
+    private final QuoteRenderCache quoteCache = new QuoteRenderCache(quoteRenderer);
 
     private Ui() {
         scanner = new Scanner(System.in);
@@ -28,140 +40,96 @@ public class Ui {
                 "| / \\|| | ||| / \\| / \\ |  \\  | |    \\  / \n" + //
                 "| \\_\\|| \\_/|| \\_/| | | |  /_ | |_/\\ / /  \n" + //
                 "\\____\\\\____/\\____/ \\_/ \\____\\\\____//_/   \n";
-        System.out.println("Hello from\n" + logo);
-        System.out.println("What can I do for you?");
+        println("Hello from\n" + logo);
+        println("What can I do for you?");
     }
 
     public void showLine() {
-        System.out.println("____________________________________________________________");
+        println("____________________________________________________________");
     }
 
     public void showExitMessage() {
-        System.out.println("Bye. Hope to see you again soon!");
+        println("Bye. Hope to see you again soon!");
     }
 
     public String readCommand(QuotelyState state) {
         if (state.isInsideQuote()) {
-            System.out.print(state.getQuoteReference().toString() + " > ");
+            output.append(state.getQuoteReference().toString()).append(" > ");
         } else {
-            System.out.print("main > ");
+            output.append("main > ");
         }
+        flush();
         return scanner.nextLine();
     }
 
     public void showError(String message) {
-        System.out.println("Error: " + message);
+        output.append("Error: ");
+        println(message);
     }
 
     public void showMessage(String message) {
-        System.out.println(message);
+        println(message);
+    }
+
+    /**
+     * Shows an error from a batch script on standard error, apart from the output of the commands.
+     */
+    public void showBatchError(int lineNumber, String message) {
+        flush();
+        System.err.println("Error on line " + lineNumber + ": " + message);
+    }
+
+    /**
+     * Shows the progress of a batch script on standard error, apart from the output of the commands.
+     */
+    public void showBatchStatus(String message) {
+        flush();
+        System.err.println(message);
     }
 
     public void promptCompanyName() {
-        System.out.println("Please enter your company name: ");
+        println("Please enter your company name: ");
         // to be updated to prompt user if companyName is default String
     }
 
-    private void showInfoLine(StringBuilder stringBuilder, int boxInner, String title) {
-        stringBuilder.append(String.format("| %-" + boxInner + "s |%n", title));
+    /**
+     * Writes the output shown since the last flush to standard output.
+     */
+    public void flush() {
+        if (output.length() > 0) {
+            System.out.print(output);
+            output.setLength(0);
+        }
+        System.out.flush();
     }
 
-    private void showInfoLines(StringBuilder stringBuilder, int boxInner, CompanyName companyName, Quote q) {
-        showInfoLine(stringBuilder, boxInner, "Company name: " + companyName.getCompanyName());
-        showInfoLine(stringBuilder, boxInner, "Quote ID: " + q.getQuoteName());
-        showInfoLine(stringBuilder, boxInner, "Customer name: " + q.getCustomerName());
+    private void println(String text) {
+        output.append(text).append(LINE_SEPARATOR);
+        flushIfFull();
     }
 
-    private void showTableBody(StringBuilder stringBuilder, int wDesc, int wQty, int wUnit, int wTax, Quote q) {
-        final String emptyRowFmt = "| %-" + 
-                wDesc + "s | %" + 
-                wQty + "s | %" + 
-                wUnit + "s | %" + 
-                wTax + "s |%n";
-        final String itemFmt = "| %-" +
-                wDesc + "s | %" +
-                wQty + "d | $%" +
-                (wUnit - 1) + ".2f | %" +
-                (wTax - 1) + ".2f %%|%n";
-
-        if (q.getItems().isEmpty()) {
-            stringBuilder.append(String.format(emptyRowFmt, "(no items)", "-", "-", "-"));
-        } else {
-            for (Item it : q.getItems()) {
-                String name = it.getItemName();
-                if (name.length() > wDesc) {
-                    name = name.substring(0, wDesc);
-                }
-                stringBuilder.append(String.format(itemFmt, name, it.getQuantity(), it.getPrice(), it.getTaxRate()));
-            }
+    private void flushIfFull() {
+        if (output.length() >= OUTPUT_BUFFER_SIZE) {
+            flush();
         }
     }
 
     /**
-     * Formats amount to 2 decimal places.
-     * @param amount the amount to format
-     * @return the formatted amount as a string with 2 decimal places
+     * Shows the quote as a boxed table. A quote shown before is only rendered again if it or
+     * the company name changed since.
      */
-    private String formatAmount(Double amount) {
-        return String.format("%.2f", amount);
-    }
-
-    private void showSummaryLines(StringBuilder stringBuilder, int indent, int labelW, int amtW, Quote q) {
-        String summaryFmt = "| %" + indent + "s%-" + labelW + "s %-" + amtW + "s |%n";
-        stringBuilder.append(String.format(summaryFmt, "", 
-            "Subtotal:", "$" + formatAmount(q.getQuoteTotalPriceWithoutTax()).trim()));
-        stringBuilder.append(String.format(summaryFmt, "", 
-            "GST:", "$" + formatAmount(q.getQuoteTotalTax()).trim()));
-        stringBuilder.append(String.format(summaryFmt, "", 
-            "Total:", "$" + formatAmount(q.getQuoteTotal()).trim()));
+    public void showQuote(CompanyName companyName, Quote q) {
+        output.append(quoteCache.get(companyName, q)).append(LINE_SEPARATOR);
+        flushIfFull();
     }
 
-    public void showQuote(CompanyName companyName, Quote q) {
-        // ===== choose ONE inner width for the whole box =====
-        final int boxInner = 60; // chars between the two side pipes
-
-        // items table columns (these MUST sum to boxInner - 8)
-        final int wQty = 3;
-        final int wUnit = 10;
-        final int wTax = 8;
-        final int wDesc = boxInner - wQty - wUnit - wTax - 9; // 9 accounts for " | ", " | "
-
-        // totals block (left margin + label + space + amount = boxInner)
-        final int amtW = 15; // width for "$xx.xx" (right aligned)
-        final int indent = 34; // left margin you want before totals
-        final int labelW = boxInner - indent - amtW - 1; // -1 for the single space before amount
-
-        // reusable strings
-        final String dash = "-".repeat(boxInner + 2);
-        final String und = "_".repeat(boxInner + 2);
-
-        StringBuilder stringBuilder = new StringBuilder();
-
-        // ===== header (all rows exactly boxInner wide) =====
-        String title = "QUOTE";
-        int pad = Math.max(0, boxInner+4 - title.length());
-        int left = pad / 2;
-        int right = pad - left;
-        stringBuilder.append(String.format("%s%n", "_".repeat(left) + title + "_".repeat(right)));
-
-        showInfoLines(stringBuilder, boxInner, companyName, q);
-        stringBuilder.append(String.format("|%s|%n", dash));
-
-        // ===== table header =====
-        final String headerFmt = "| %-" + wDesc + "s | %" + wQty + "s | %" + wUnit + "s | %" + wTax + "s |%n";
-        String headerLine = String.format(headerFmt, "Description", "QTY", "Unit cost", "Tax Rate");
-        stringBuilder.append(headerLine);
-        stringBuilder.append(String.format("|%s|%n", dash));
-
-        // ===== table body =====
-        showTableBody(stringBuilder, wDesc, wQty, wUnit, wTax, q);
-        stringBuilder.append(String.format("|%s|%n", dash));
-        stringBuilder.append(String.format("| %-" + boxInner + "s |%n", "")); // blank spacer row
-        
-        // ===== summary lines (subtotal, tax, total) =====
-        showSummaryLines(stringBuilder, indent, labelW, amtW, q);
-        stringBuilder.append(String.format("|%s|%n", und));
-
-        showMessage(stringBuilder.toString());
+    /**
+     * Shows one line with the quote's name, customer, number of items and total.
+     *
+     * @param number the position of the quote in the list, starting from 1
+     */
+    public void showQuoteSummary(int number, Quote q) {
+        quoteRenderer.renderSummary(output, number, q);
+        flushIfFull();
     }
 }
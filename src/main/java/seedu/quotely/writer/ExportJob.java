@@ -0,0 +1,113 @@
+package seedu.quotely.writer;
+
+import java.io.File;
+
+/**
+ * An export of one quote, or a report of several, to a PDF file, queued on the {@link ExportQueue}.
+ * The job records when it was queued, started and finished so its waiting and running times can be shown.
+ */
+public class ExportJob {
+    public enum Status {
+        PENDING,
+        RUNNING,
+        DONE,
+        SKIPPED,
+        FAILED
+    }
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final int id;
+    private final String name;
+    private final File file;
+    private final long queuedAt;
+
+    // all fields below are guarded by this
+    private Status status = Status.PENDING;
+    private long startedAt;
+    private long finishedAt;
+    private String failure;
+
+    ExportJob(int id, String name, File file) {
+        this.id = id;
+        this.name = name;
+        this.file = file;
+        this.queuedAt = System.nanoTime();
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the exported quote, or "report of N quotes" for a report.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns why the export failed, or null if it has not failed.
+     */
+    public synchronized String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns how long the job waited in the queue, so far if it has not started yet.
+     */
+    public synchronized long getWaitMillis() {
+        long end = status == Status.PENDING ? System.nanoTime() : startedAt;
+        return (end - queuedAt) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Returns how long the export ran, so far if it is still running, or 0 if it has not started.
+     */
+    public synchronized long getRunMillis() {
+        switch (status) {
+        case PENDING:
+            return 0;
+        case RUNNING:
+            return (System.nanoTime() - startedAt) / NANOS_PER_MILLI;
+        default:
+            return (finishedAt - startedAt) / NANOS_PER_MILLI;
+        }
+    }
+
+    public synchronized boolean isFinished() {
+        return status != Status.PENDING && status != Status.RUNNING;
+    }
+
+    synchronized void markRunning() {
+        status = Status.RUNNING;
+        startedAt = System.nanoTime();
+    }
+
+    synchronized void markDone() {
+        status = Status.DONE;
+        finishedAt = System.nanoTime();
+    }
+
+    /**
+     * Marks the job finished without writing, as the file was already exported from the same quote.
+     */
+    synchronized void markSkipped() {
+        status = Status.SKIPPED;
+        finishedAt = System.nanoTime();
+    }
+
+    synchronized void markFailed(String reason) {
+        status = Status.FAILED;
+        finishedAt = System.nanoTime();
+        failure = reason;
+    }
+}
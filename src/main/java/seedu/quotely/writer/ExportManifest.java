@@ -0,0 +1,116 @@
+package seedu.quotely.writer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Remembers the content hash of every PDF exported to one directory, in a sidecar file next to the PDFs,
+ * so an export whose quote has not changed can be skipped.
+ *
+ * <p>The file holds one line per export, "HASH FILE_NAME", and is only ever appended to, so recording an
+ * export costs one short write however many PDFs the directory holds. The last line for a file name wins.
+ * When superseded lines outnumber the live ones, the file is rewritten on the next load.
+ */
+class ExportManifest {
+    static final String FILE_NAME = ".quotely-exports";
+    // recorded for a file whose content is unknown; never equal to a real hash
+    private static final String NO_HASH = "-";
+    private static final Logger logger = LoggerConfig.getLogger(ExportManifest.class);
+
+    private final Path directory;
+    private final Path file;
+    // guarded by this
+    private final Map<String, String> hashes = new HashMap<>();
+
+    private ExportManifest(Path directory) {
+        this.directory = directory;
+        this.file = directory.resolve(FILE_NAME);
+    }
+
+    /**
+     * Reads the manifest of the directory; a missing or unreadable manifest counts as empty.
+     */
+    static ExportManifest load(Path directory) {
+        ExportManifest manifest = new ExportManifest(directory);
+        if (!Files.exists(manifest.file)) {
+            return manifest;
+        }
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(manifest.file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(' ');
+                if (separator > 0 && separator < line.length() - 1) {
+                    manifest.hashes.put(line.substring(separator + 1), line.substring(0, separator));
+                    lines++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Ignoring unreadable export manifest " + manifest.file + ": " + e.getMessage());
+            manifest.hashes.clear();
+            return manifest;
+        }
+        if (lines > 2 * manifest.hashes.size()) {
+            manifest.compact();
+        }
+        return manifest;
+    }
+
+    /**
+     * Returns true if the PDF exists and was last exported from content with the given hash.
+     */
+    synchronized boolean isUpToDate(String fileName, String hash) {
+        return hash.equals(hashes.get(fileName)) && Files.isRegularFile(directory.resolve(fileName));
+    }
+
+    /**
+     * Records that the PDF was just exported from content with the given hash.
+     */
+    synchronized void record(String fileName, String hash) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(hash + " " + fileName);
+            writer.newLine();
+        }
+        hashes.put(fileName, hash);
+    }
+
+    /**
+     * Records that the PDF may no longer match any content, e.g. after an export that failed part way
+     * through overwriting it.
+     */
+    synchronized void forget(String fileName) throws IOException {
+        if (hashes.containsKey(fileName)) {
+            record(fileName, NO_HASH);
+        }
+    }
+
+    /**
+     * Rewrites the manifest with only the latest line of each file, replacing the old one in a single move.
+     */
+    private void compact() {
+        Path temp = directory.resolve(FILE_NAME + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, String> entry : hashes.entrySet()) {
+                    writer.write(entry.getValue() + " " + entry.getKey());
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warning("Could not compact export manifest " + file + ": " + e.getMessage());
+        }
+    }
+}
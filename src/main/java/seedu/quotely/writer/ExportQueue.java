@@ -0,0 +1,197 @@
+package seedu.quotely.writer;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.util.LoggerConfig;
+
+/**
+ * Writes quotes to PDF files on a background thread, one at a time in the order they were queued,
+ * so the command loop returns to the prompt while iText lays out the document. A job writes either one
+ * quote or a report of several quotes in a single PDF.
+ *
+ * <p>Each job works on copies of the quotes and company name taken when it is queued, so later edits
+ * never show up in a PDF that is still waiting. A job whose file was already exported from the same
+ * content is skipped unless it is forced. Finished jobs are kept for the {@code jobs} command,
+ * up to {@link #MAX_FINISHED_JOBS} of them.
+ */
+public class ExportQueue {
+    static final int MAX_FINISHED_JOBS = 50;
+    private static final Logger logger = LoggerConfig.getLogger(ExportQueue.class);
+    private static ExportQueue queue = null;
+
+    // all fields below are guarded by this
+    private final Deque<PendingExport> pending = new ArrayDeque<>();
+    private final List<ExportJob> jobs = new ArrayList<>();
+    private Thread worker;
+    private int nextId = 1;
+    private int running = 0;
+
+    ExportQueue() {
+    }
+
+    public static synchronized ExportQueue getInstance() {
+        if (queue == null) {
+            queue = new ExportQueue();
+        }
+        return queue;
+    }
+
+    /**
+     * Queues an export of the quote as it is now, replacing the file if it exists.
+     *
+     * @param isForced true to write the file even if it was already exported from the same content
+     */
+    public synchronized ExportJob submit(Quote quote, CompanyName companyName, File file, boolean isForced) {
+        ExportJob job = new ExportJob(nextId++, quote.getQuoteName(), file);
+        enqueue(new PendingExport(job, List.of(quote.copy()), false, new CompanyName(companyName.getCompanyName()),
+                isForced));
+        return job;
+    }
+
+    /**
+     * Queues an export of the quotes as they are now into one report, replacing the file if it exists.
+     *
+     * @param isForced true to write the file even if it was already exported from the same content
+     */
+    public synchronized ExportJob submitReport(List<Quote> quotes, CompanyName companyName, File file,
+                                               boolean isForced) {
+        ExportJob job = new ExportJob(nextId++, "report of " + quotes.size() + " quotes", file);
+        List<Quote> copies = new ArrayList<>(quotes.size());
+        for (Quote quote : quotes) {
+            copies.add(quote.copy());
+        }
+        enqueue(new PendingExport(job, copies, true, new CompanyName(companyName.getCompanyName()), isForced));
+        return job;
+    }
+
+    private void enqueue(PendingExport export) {
+        ExportJob job = export.job;
+        pending.add(export);
+        jobs.add(job);
+        dropOldFinishedJobs();
+        if (worker == null) {
+            worker = new Thread(this::runWorker, "quotely-export");
+            worker.setDaemon(true);
+            worker.start();
+        }
+        notifyAll();
+        logger.fine("Queued export job " + job.getId() + " for " + job.getName());
+    }
+
+    /**
+     * Returns the pending and running jobs and the most recent finished ones, oldest first.
+     */
+    public synchronized List<ExportJob> getJobs() {
+        return new ArrayList<>(jobs);
+    }
+
+    /**
+     * Blocks until every queued export has finished.
+     */
+    public synchronized void awaitIdle() {
+        while (!pending.isEmpty() || running > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dropOldFinishedJobs() {
+        int finished = 0;
+        for (ExportJob job : jobs) {
+            if (job.isFinished()) {
+                finished++;
+            }
+        }
+        Iterator<ExportJob> iterator = jobs.iterator();
+        while (finished > MAX_FINISHED_JOBS && iterator.hasNext()) {
+            if (iterator.next().isFinished()) {
+                iterator.remove();
+                finished--;
+            }
+        }
+    }
+
+    private void runWorker() {
+        PDFWriter pdfWriter = PDFWriter.getInstance();
+        while (true) {
+            PendingExport export;
+            synchronized (this) {
+                while (pending.isEmpty()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        logger.warning("Export worker interrupted with " + pending.size() + " jobs left");
+                        return;
+                    }
+                }
+                export = pending.poll();
+                running++;
+            }
+
+            ExportJob job = export.job;
+            job.markRunning();
+            try {
+                if (export.write(pdfWriter)) {
+                    job.markDone();
+                    logger.fine("Export job " + job.getId() + " finished in " + job.getRunMillis() + " ms");
+                } else {
+                    job.markSkipped();
+                    logger.fine("Export job " + job.getId() + " skipped, " + job.getFile() + " is up to date");
+                }
+            } catch (QuotelyException | RuntimeException e) {
+                // a failed job must not stop the worker, or awaitIdle would never return
+                job.markFailed(e.getMessage());
+                logger.warning("Export job " + job.getId() + " failed: " + e.getMessage());
+            } finally {
+                synchronized (this) {
+                    running--;
+                    dropOldFinishedJobs();
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * A queued job with the copies of the data it exports.
+     */
+    private static class PendingExport {
+        private final ExportJob job;
+        private final List<Quote> quotes;
+        private final boolean isReport;
+        private final CompanyName companyName;
+        private final boolean isForced;
+
+        PendingExport(ExportJob job, List<Quote> quotes, boolean isReport, CompanyName companyName,
+                      boolean isForced) {
+            this.job = job;
+            this.quotes = quotes;
+            this.isReport = isReport;
+            this.companyName = companyName;
+            this.isForced = isForced;
+        }
+
+        /**
+         * Writes the PDF, returning false if it was skipped as up to date.
+         */
+        boolean write(PDFWriter pdfWriter) throws QuotelyException {
+            if (isReport) {
+                return pdfWriter.exportReport(quotes, companyName, job.getFile(), isForced);
+            }
+            return pdfWriter.exportQuote(quotes.get(0), companyName, job.getFile(), isForced);
+        }
+    }
+}
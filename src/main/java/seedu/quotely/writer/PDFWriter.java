@@ -1,6 +1,7 @@
 package seedu.quotely.writer;
 
 import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
 import com.lowagie.text.Font;
 import com.lowagie.text.Paragraph;
 import com.lowagie.text.Chunk;
@@ -11,22 +12,92 @@ import com.lowagie.text.Rectangle;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfWriter;
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.awt.Color;
 
 import seedu.quotely.data.CompanyName;
 import seedu.quotely.data.Quote;
 import seedu.quotely.data.Item;
-import seedu.quotely.ui.Ui;
+import seedu.quotely.data.Money;
+import seedu.quotely.exception.QuotelyException;
 
+/**
+ * Lays out quotes as PDF quotations with iText.
+ *
+ * <p>A quote can be rendered into any {@link OutputStream}, e.g. an in-memory buffer or a zip entry, or exported
+ * to a file. Fonts and the fixed cells of the table are created once and shared by every export: they are never
+ * modified afterwards, and {@link PdfPTable#addCell(PdfPCell)} adds a copy of the cell it is given, so exports on
+ * different threads can use them at the same time.
+ *
+ * <p>The items table is streamed as an incomplete {@link com.lowagie.text.LargeElement}: every {@link #ROWS_PER_CHUNK}
+ * rows it is added to the document, which lays the rows out, writes finished pages to the stream and drops them.
+ * The header row is repeated at the top of every page, so a quote with thousands of items needs no more memory than
+ * one with a few.
+ */
 public class PDFWriter {
+    // part of every content hash; bump it whenever the layout changes so existing PDFs are exported again
+    private static final int LAYOUT_VERSION = 2;
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+    // exports to the same file are serialized on one of this many locks, chosen by the file's path
+    private static final int FILE_LOCK_COUNT = 64;
+    // item rows held in memory before they are added to the document
+    static final int ROWS_PER_CHUNK = 50;
+
+    private static final Font TITLE_FONT = new Font(Font.HELVETICA, 20, Font.BOLD);
+    private static final Font INFO_FONT = new Font(Font.HELVETICA, 12);
+    private static final Font HEAD_FONT = new Font(Font.HELVETICA, 12, Font.BOLD);
+    private static final Color HEADER_BACKGROUND = new Color(230, 230, 230);
+    private static final String[] HEADERS = { "Description", "Unit Price", "Qty", "Taxed", "Amount" };
+    private static final float[] COLUMN_WIDTHS = { 4, 2, 1, 2, 2 };
+    private static final int COLUMN_NUMBER = HEADERS.length;
+
+    private static final PdfPCell[] HEADER_CELLS = headerCells(HEADERS);
+    private static final PdfPCell SUMMARY_SPACER = summaryCell(new Phrase(""));
+    private static final PdfPCell SUBTOTAL_LABEL = summaryCell(new Phrase("Subtotal", HEAD_FONT));
+    private static final PdfPCell TAX_LABEL = summaryCell(new Phrase("Total Tax", HEAD_FONT));
+    private static final PdfPCell TOTAL_LABEL = summaryCell(new Phrase("Grand Total", HEAD_FONT));
+
+    // summary table at the end of a report of several quotes
+    private static final String REPORT_TITLE = "SUMMARY";
+    private static final String[] REPORT_HEADERS = { "Quote", "Customer", "Items", "Subtotal", "Tax", "Total" };
+    private static final float[] REPORT_COLUMN_WIDTHS = { 3, 3, 1, 2, 2, 2 };
+    private static final PdfPCell[] REPORT_HEADER_CELLS = headerCells(REPORT_HEADERS);
+    private static final PdfPCell REPORT_TOTAL_LABEL = summaryCell(new Phrase("Grand Total", HEAD_FONT));
+
     private static PDFWriter writer = null;
 
+    static {
+        SUMMARY_SPACER.setColspan(COLUMN_NUMBER - 2);
+        REPORT_TOTAL_LABEL.setColspan(REPORT_HEADERS.length - 3);
+    }
+
+    // export manifest of each directory written to, guarded by this
+    private final Map<Path, ExportManifest> manifests = new HashMap<>();
+    private final Object[] fileLocks = new Object[FILE_LOCK_COUNT];
+
     private PDFWriter() {
+        for (int i = 0; i < FILE_LOCK_COUNT; i++) {
+            fileLocks[i] = new Object();
+        }
     }
 
-    public static PDFWriter getInstance() {
+    public static synchronized PDFWriter getInstance() {
         if (writer == null) {
             writer = new PDFWriter();
         }
@@ -45,124 +116,359 @@ public class PDFWriter {
         return sanitizedFilename + ".pdf";
     }
 
-    public void writeQuoteToPDF(Quote quote, CompanyName companyName, String filename) {
-        List<Item> items = quote.getItems();
-        Ui ui = Ui.getInstance();
+    /**
+     * Writes the quote as a PDF to the given file unless the file was already exported from the same quote
+     * and company name, as recorded in the manifest of its directory.
+     *
+     * @param isForced true to write the file even if it is up to date
+     * @return false if the export was skipped because the file is up to date
+     * @throws QuotelyException if the file or the manifest cannot be written
+     */
+    public boolean exportQuote(Quote quote, CompanyName companyName, File file, boolean isForced)
+            throws QuotelyException {
+        return exportIfChanged(file, getContentHash(quote, companyName), isForced,
+            out -> writeQuote(quote, companyName, out));
+    }
+
+    /**
+     * Writes the quotes as one report to the given file unless the file was already exported from the
+     * same quotes and company name, as recorded in the manifest of its directory.
+     *
+     * @param isForced true to write the file even if it is up to date
+     * @return false if the export was skipped because the file is up to date
+     * @throws QuotelyException if the file or the manifest cannot be written
+     */
+    public boolean exportReport(List<Quote> quotes, CompanyName companyName, File file, boolean isForced)
+            throws QuotelyException {
+        return exportIfChanged(file, getReportHash(quotes, companyName), isForced,
+            out -> writeReport(quotes, companyName, out));
+    }
 
+    private boolean exportIfChanged(File file, String hash, boolean isForced, PdfContent content)
+            throws QuotelyException {
+        File target = file.getAbsoluteFile();
+        String fileName = target.getName();
+        ExportManifest manifest = getManifest(target.getParentFile().toPath());
+        // the export queue and a bulk export may write the same file at once; interleaved writes would corrupt it
+        // and leave the manifest holding the hash of whichever finished last
+        synchronized (getFileLock(target)) {
+            if (!isForced && manifest.isUpToDate(fileName, hash)) {
+                return false;
+            }
+            try {
+                try {
+                    writeFile(target, content);
+                } catch (QuotelyException e) {
+                    manifest.forget(fileName);
+                    throw e;
+                }
+                manifest.record(fileName, hash);
+            } catch (IOException e) {
+                throw new QuotelyException(QuotelyException.ErrorType.EXPORT_FAILED,
+                        "could not update " + ExportManifest.FILE_NAME + " (" + e.getMessage() + ")");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the lock guarding exports to the file, ignoring case as file systems may.
+     */
+    private Object getFileLock(File target) {
+        int hash = target.getPath().toLowerCase(Locale.ROOT).hashCode();
+        return fileLocks[Math.floorMod(hash, FILE_LOCK_COUNT)];
+    }
+
+    /**
+     * Returns a SHA-256 hash, in hex, of everything shown in the quote's PDF apart from the date:
+     * the quote and customer names, every item, the company name and the layout version.
+     */
+    public String getContentHash(Quote quote, CompanyName companyName) {
+        MessageDigest digest = newDigest();
+        try (DataOutputStream out = new DataOutputStream(
+                new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+            out.writeInt(LAYOUT_VERSION);
+            out.writeUTF(companyName.getCompanyName());
+            out.writeUTF(quote.getQuoteName());
+            out.writeUTF(quote.getCustomerName());
+            out.writeInt(quote.getItems().size());
+            for (Item item : quote.getItems()) {
+                out.writeUTF(item.getItemName());
+                out.writeLong(item.getPriceCents());
+                out.writeInt(item.getQuantity());
+                out.writeLong(item.getTaxRateBasisPoints());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Hashing in memory cannot fail", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns a SHA-256 hash, in hex, of a report of the quotes: the content hash of each quote, in order.
+     */
+    public String getReportHash(List<Quote> quotes, CompanyName companyName) {
+        MessageDigest digest = newDigest();
+        digest.update(REPORT_TITLE.getBytes(StandardCharsets.UTF_8));
+        for (Quote quote : quotes) {
+            digest.update(getContentHash(quote, companyName).getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
         try {
-            Document document = new Document(PageSize.A4, 50, 50, 50, 50);
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private synchronized ExportManifest getManifest(Path directory) {
+        return manifests.computeIfAbsent(directory, ExportManifest::load);
+    }
+
+    /**
+     * Writes the quote as a PDF to the given file through a buffer, replacing any existing file.
+     *
+     * @throws QuotelyException if the file cannot be written or the document cannot be laid out
+     */
+    public void writeQuote(Quote quote, CompanyName companyName, File file) throws QuotelyException {
+        writeFile(file, out -> writeQuote(quote, companyName, out));
+    }
+
+    /**
+     * Writes the quote as a PDF to the stream, which is flushed but left open for the caller to close.
+     * Each call builds its own document and shows nothing to the user, so quotes can be written from
+     * several threads at once as long as they are not modified meanwhile.
+     *
+     * @throws QuotelyException if the stream cannot be written or the document cannot be laid out
+     */
+    public void writeQuote(Quote quote, CompanyName companyName, OutputStream out) throws QuotelyException {
+        write(out, false, document -> addQuote(document, quote, companyName));
+    }
 
-            filename = getSecureFilename(filename);
-            FileOutputStream fos;
+    /**
+     * Writes the quotes as one PDF report to the stream, which is flushed but left open for the caller to close.
+     * Each quote starts on a new page and is laid out as in its own PDF; a summary table of every quote
+     * with their grand total follows on the last pages. The fonts and other resources are shared by the whole
+     * report and the document is fully compressed, so it is much smaller than the quotes' separate PDFs.
+     *
+     * @throws QuotelyException if the stream cannot be written or the document cannot be laid out
+     */
+    public void writeReport(List<Quote> quotes, CompanyName companyName, OutputStream out) throws QuotelyException {
+        write(out, true, document -> {
+            for (Quote quote : quotes) {
+                addQuote(document, quote, companyName);
+                document.newPage();
+            }
+            addReportSummary(document, quotes);
+        });
+    }
+
+    /**
+     * Writes the PDF to a temporary file beside the target and then moves it over the target, so an export
+     * that is interrupted never leaves a truncated PDF that the manifest still records as up to date.
+     */
+    private void writeFile(File file, PdfContent content) throws QuotelyException {
+        Path target = file.toPath();
+        Path tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath), FILE_BUFFER_SIZE)) {
+                content.writeTo(out);
+            }
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new QuotelyException(QuotelyException.ErrorType.EXPORT_FAILED, e.getMessage());
+        } finally {
             try {
-                fos = new FileOutputStream(filename);
-            } catch (Exception e) {
-                ui.showMessage(e.getMessage());
-                return;
+                Files.deleteIfExists(tempPath);
+            } catch (IOException e) {
+                // a leftover temporary file is replaced by the next export of the same file
             }
-            PdfWriter writer = PdfWriter.getInstance(document, fos);
-            document.open();
+        }
+    }
 
-            // Add quotation title
-            Font titleFont = new Font(Font.HELVETICA, 20, Font.BOLD);
-            Paragraph title = new Paragraph("QUOTATION", titleFont);
-            title.setAlignment(Element.ALIGN_CENTER);
-            document.add(title);
-
-            document.add(Chunk.NEWLINE);
-
-            // Add quotation info
-            Font infoFont = new Font(Font.HELVETICA, 12);
-            Paragraph invoiceInfo = new Paragraph(
-                "Quotation Name: " + quote.getQuoteName() + "\n" + 
-                "Company Name: " + companyName.getCompanyName() + "\n" + 
-                "Customer Name: " + quote.getCustomerName() + "\n" +
-                "Date: " + java.time.LocalDate.now().toString(), infoFont
-            );
-            document.add(invoiceInfo);
-
-            document.add(Chunk.NEWLINE);
-
-            // Table header
-            Font headFont = new Font(Font.HELVETICA, 12, Font.BOLD);
-            String[] headers = { "Description", "Unit Price", "Qty", "Taxed", "Amount" };
-            int columnNumber = headers.length;
-
-            // Add table for items
-            PdfPTable table = new PdfPTable(columnNumber); // 5 columns
-            table.setWidthPercentage(100);
-            table.setWidths(new float[] { 4, 2, 1, 2, 2 });
-
-            for (String h : headers) {
-                PdfPCell cell = new PdfPCell(new Phrase(h, headFont));
-                cell.setHorizontalAlignment(Element.ALIGN_CENTER);
-                cell.setBackgroundColor(new Color(230, 230, 230));
-                table.addCell(cell);
+    /**
+     * Lays out a new document on the stream, leaving the stream open.
+     */
+    private void write(OutputStream out, boolean isCompressed, DocumentContent content) throws QuotelyException {
+        try {
+            Document document = new Document(PageSize.A4, 50, 50, 50, 50);
+            PdfWriter pdfWriter = PdfWriter.getInstance(document, out);
+            pdfWriter.setCloseStream(false);
+            if (isCompressed) {
+                pdfWriter.setFullCompression();
             }
-            double subtotal = 0.0;
-            double totalTax = 0.0;
+            document.open();
+            content.addTo(document);
+            document.close();
+            out.flush();
+        } catch (DocumentException | IOException e) {
+            throw new QuotelyException(QuotelyException.ErrorType.EXPORT_FAILED, e.getMessage());
+        } catch (RuntimeException e) {
+            // iText reports failures of the underlying stream as unchecked ExceptionConverters
+            throw new QuotelyException(QuotelyException.ErrorType.EXPORT_FAILED, e.getMessage());
+        }
+    }
 
-            // Table rows
-            for (Item item : items) {
-                table.addCell(new PdfPCell(new Phrase(item.getItemName())));
+    /**
+     * Adds the quotation of the quote: its title, details, items and totals.
+     */
+    private void addQuote(Document document, Quote quote, CompanyName companyName) throws DocumentException {
+        // Add quotation title
+        Paragraph title = new Paragraph("QUOTATION", TITLE_FONT);
+        title.setAlignment(Element.ALIGN_CENTER);
+        document.add(title);
 
-                PdfPCell priceCell = new PdfPCell(new Phrase(String.format("%.2f", item.getPrice())));
-                priceCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
-                table.addCell(priceCell);
+        document.add(Chunk.NEWLINE);
 
-                PdfPCell qtyCell = new PdfPCell(new Phrase(String.valueOf(item.getQuantity())));
-                qtyCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-                table.addCell(qtyCell);
+        // Add quotation info
+        Paragraph invoiceInfo = new Paragraph(
+            "Quotation Name: " + quote.getQuoteName() + "\n" +
+            "Company Name: " + companyName.getCompanyName() + "\n" +
+            "Customer Name: " + quote.getCustomerName() + "\n" +
+            "Date: " + java.time.LocalDate.now().toString(), INFO_FONT
+        );
+        document.add(invoiceInfo);
 
-                PdfPCell taxCell = new PdfPCell(new Phrase(String.format("%.2f %%", item.getTaxRate())));
-                taxCell.setHorizontalAlignment(Element.ALIGN_CENTER);
-                table.addCell(taxCell);
+        document.add(Chunk.NEWLINE);
 
-                PdfPCell totalCell = new PdfPCell(new Phrase(String.format("%.2f",
-                        item.getItemTotalTax() + item.getItemTotalPriceWithoutTax())));
-                totalCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
-                table.addCell(totalCell);
+        // Add table for items, repeating the header row on every page
+        PdfPTable table = newTable(HEADER_CELLS, COLUMN_WIDTHS);
 
-                subtotal += item.getItemTotalPriceWithoutTax();
-                totalTax += item.getItemTotalTax();
+        // Table rows, added to the document a chunk at a time
+        int rowsInChunk = 0;
+        for (Item item : quote.getItems()) {
+            if (rowsInChunk == ROWS_PER_CHUNK) {
+                flushRows(document, table);
+                rowsInChunk = 0;
             }
+            rowsInChunk++;
+            table.addCell(new PdfPCell(new Phrase(item.getItemName())));
+            table.addCell(cell(new Phrase(Money.format(item.getPriceCents())), Element.ALIGN_RIGHT));
+            table.addCell(cell(new Phrase(String.valueOf(item.getQuantity())), Element.ALIGN_CENTER));
+            table.addCell(cell(new Phrase(Money.formatPercent(item.getTaxRateBasisPoints()) + " %"),
+                    Element.ALIGN_CENTER));
+            table.addCell(cell(new Phrase(Money.format(item.getSubtotalCents() + item.getTaxCents())),
+                    Element.ALIGN_RIGHT));
+        }
+        long subtotal = quote.getSubtotalCents();
+        long totalTax = quote.getTaxCents();
+
+        // Add summary rows(subtotal, total tax, grand total)
+        addSummaryRow(table, SUBTOTAL_LABEL, subtotal);
+        addSummaryRow(table, TAX_LABEL, totalTax);
+        addSummaryRow(table, TOTAL_LABEL, subtotal + totalTax);
 
-            PdfPCell emptyCell = new PdfPCell(new Phrase(""));
-            emptyCell.setColspan(columnNumber - 2);
-            emptyCell.setBorder(Rectangle.NO_BORDER);
+        table.setComplete(true);
+        document.add(table);
+    }
 
-            // Add summary rows(subtotal, total tax, grand total)
-            addSummaryRow(table, "Subtotal", subtotal, columnNumber);
-            addSummaryRow(table, "Total Tax", totalTax, columnNumber);
-            addSummaryRow(table, "Grand Total", subtotal + totalTax, columnNumber);
-            
-            document.add(table);
+    /**
+     * Adds the report's summary: one row per quote with its totals, then the totals of every quote.
+     */
+    private void addReportSummary(Document document, List<Quote> quotes) throws DocumentException {
+        Paragraph title = new Paragraph(REPORT_TITLE, TITLE_FONT);
+        title.setAlignment(Element.ALIGN_CENTER);
+        document.add(title);
 
-            document.close();
-            writer.close();
-            fos.close();
-            ui.showMessage("Exporting quote: " + quote.getQuoteName() + 
-                " to " + filename);
-        } catch (Exception e) {
-            e.printStackTrace();
+        document.add(Chunk.NEWLINE);
+
+        PdfPTable table = newTable(REPORT_HEADER_CELLS, REPORT_COLUMN_WIDTHS);
+        long subtotal = 0;
+        long totalTax = 0;
+        int rowsInChunk = 0;
+        for (Quote quote : quotes) {
+            if (rowsInChunk == ROWS_PER_CHUNK) {
+                flushRows(document, table);
+                rowsInChunk = 0;
+            }
+            rowsInChunk++;
+            table.addCell(new PdfPCell(new Phrase(quote.getQuoteName())));
+            table.addCell(new PdfPCell(new Phrase(quote.getCustomerName())));
+            table.addCell(cell(new Phrase(String.valueOf(quote.getItems().size())), Element.ALIGN_CENTER));
+            table.addCell(cell(new Phrase(Money.format(quote.getSubtotalCents())), Element.ALIGN_RIGHT));
+            table.addCell(cell(new Phrase(Money.format(quote.getTaxCents())), Element.ALIGN_RIGHT));
+            table.addCell(cell(new Phrase(Money.format(quote.getTotalCents())), Element.ALIGN_RIGHT));
+            subtotal += quote.getSubtotalCents();
+            totalTax += quote.getTaxCents();
         }
+
+        table.addCell(REPORT_TOTAL_LABEL);
+        table.addCell(summaryCell(new Phrase("$ " + Money.format(subtotal), HEAD_FONT)));
+        table.addCell(summaryCell(new Phrase("$ " + Money.format(totalTax), HEAD_FONT)));
+        table.addCell(summaryCell(new Phrase("$ " + Money.format(subtotal + totalTax), HEAD_FONT)));
+        table.setComplete(true);
+        document.add(table);
     }
 
-    private void addSummaryRow(PdfPTable table, String label, double amount, int columnSpan) {
-        Font headFont = new Font(Font.HELVETICA, 12, Font.BOLD);
-        PdfPCell emptyCell = new PdfPCell(new Phrase(""));
-        emptyCell.setColspan(columnSpan - 2);
-        emptyCell.setBorder(Rectangle.NO_BORDER);
-        table.addCell(emptyCell);
+    /**
+     * Returns a full-width table whose header row, made of copies of the given cells, repeats on every page.
+     * The table is marked incomplete so it can be added to the document in chunks; mark it complete before adding
+     * the last chunk.
+     */
+    private static PdfPTable newTable(PdfPCell[] headerCells, float[] columnWidths) throws DocumentException {
+        PdfPTable table = new PdfPTable(headerCells.length);
+        table.setWidthPercentage(100);
+        table.setWidths(columnWidths);
+        table.setHeaderRows(1);
+        table.setComplete(false);
+        for (PdfPCell headerCell : headerCells) {
+            table.addCell(headerCell);
+        }
+        return table;
+    }
 
-        PdfPCell labelCell = new PdfPCell(new Phrase(label, headFont));
-        labelCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
-        labelCell.setBorder(Rectangle.NO_BORDER);
+    /**
+     * Lays out the rows added so far. As the table is incomplete, the document then drops them and the next chunk
+     * continues the same table, whose header row is drawn again at the top of every new page.
+     */
+    private void flushRows(Document document, PdfPTable table) throws DocumentException {
+        document.add(table);
+    }
+
+    private void addSummaryRow(PdfPTable table, PdfPCell labelCell, long amountCents) {
+        table.addCell(SUMMARY_SPACER);
         table.addCell(labelCell);
+        table.addCell(summaryCell(new Phrase("$ " + Money.format(amountCents), HEAD_FONT)));
+    }
+
+    private static PdfPCell[] headerCells(String[] headers) {
+        PdfPCell[] cells = new PdfPCell[headers.length];
+        for (int i = 0; i < headers.length; i++) {
+            cells[i] = cell(new Phrase(headers[i], HEAD_FONT), Element.ALIGN_CENTER);
+            cells[i].setBackgroundColor(HEADER_BACKGROUND);
+        }
+        return cells;
+    }
+
+    private static PdfPCell cell(Phrase phrase, int alignment) {
+        PdfPCell cell = new PdfPCell(phrase);
+        cell.setHorizontalAlignment(alignment);
+        return cell;
+    }
+
+    /**
+     * Returns a right-aligned cell without borders, as used below the items.
+     */
+    private static PdfPCell summaryCell(Phrase phrase) {
+        PdfPCell cell = cell(phrase, Element.ALIGN_RIGHT);
+        cell.setBorder(Rectangle.NO_BORDER);
+        return cell;
+    }
+
+    /**
+     * Adds the content of a document.
+     */
+    private interface DocumentContent {
+        void addTo(Document document) throws DocumentException;
+    }
 
-        PdfPCell amountCell = new PdfPCell(new Phrase(String.format("$ %.2f", amount), headFont));
-        amountCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
-        amountCell.setBorder(Rectangle.NO_BORDER);
-        table.addCell(amountCell);
+    /**
+     * Writes a whole PDF to a stream.
+     */
+    private interface PdfContent {
+        void writeTo(OutputStream out) throws QuotelyException;
     }
 }
@@ -0,0 +1,55 @@
+package seedu.quotely;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchOptionsTest {
+
+    @Test
+    public void parse_noArguments_returnsNull() {
+        assertNull(BatchOptions.parse(new String[0]));
+    }
+
+    @Test
+    public void parse_scriptOnly_savesAtEndAndContinuesOnError() {
+        BatchOptions options = BatchOptions.parse(new String[] {"--batch", "commands.txt"});
+        assertEquals("commands.txt", options.getScriptPath());
+        assertFalse(options.isStandardInput());
+        assertEquals(0, options.getSaveInterval());
+        assertFalse(options.isAbortOnError());
+    }
+
+    @Test
+    public void parse_allOptions_success() {
+        BatchOptions options = BatchOptions.parse(
+                new String[] {"--abort-on-error", "--batch", "-", "--save-every", "500"});
+        assertTrue(options.isStandardInput());
+        assertEquals(500, options.getSaveInterval());
+        assertTrue(options.isAbortOnError());
+    }
+
+    @Test
+    public void parse_missingScript_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[] {"--batch"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[] {"--abort-on-error"}));
+    }
+
+    @Test
+    public void parse_invalidSaveInterval_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[] {"--batch", "-", "--save-every", "0"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[] {"--batch", "-", "--save-every", "ten"}));
+    }
+
+    @Test
+    public void parse_unknownOption_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchOptions.parse(new String[] {"--batch", "-", "--quiet"}));
+    }
+}
@@ -28,7 +28,9 @@ public class CalculateTotalCommandTest {
         ByteArrayOutputStream outContent = new ByteArrayOutputStream();
 
         try {
-            // Redirect the standard output to our capture stream
+            // Write out anything earlier tests left in the buffer, then redirect the standard output
+            // to our capture stream
+            Ui.getInstance().flush();
             System.setOut(new PrintStream(outContent));
 
             // 1. Arrange: Set up the necessary objects
@@ -48,6 +50,7 @@ public class CalculateTotalCommandTest {
             command.execute(ui, quoteList, companyName, state);
 
             // 3. Assert: Check if the captured output matches the expected string
+            ui.flush();
             String actualOutput = outContent.toString();
             String expectedPrefix = "Total cost of quote Sample Quote for John Doe: $";
             assertTrue(actualOutput.contains(expectedPrefix));
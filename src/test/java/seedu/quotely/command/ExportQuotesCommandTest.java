@@ -0,0 +1,137 @@
+package seedu.quotely.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.ui.Ui;
+
+public class ExportQuotesCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream out;
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("export");
+        // write out anything earlier tests left in the buffer before capturing
+        Ui.getInstance().flush();
+        out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private String run(ExportQuotesCommand command, QuoteList quoteList) {
+        Ui ui = Ui.getInstance();
+        try {
+            command.execute(ui, quoteList, new CompanyName("default"), QuotelyState.getInstance());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+        ui.flush();
+        return out.toString();
+    }
+
+    private static boolean isWritten(Path file) throws IOException {
+        return Files.isRegularFile(file) && Files.size(file) > 0;
+    }
+
+    @Test
+    public void execute_all_writesOnePdfPerQuote() throws IOException {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 1; i <= 30; i++) {
+            Quote quote = new Quote("quote" + i, "customer" + i);
+            quote.addItem("item", i, 1, 9);
+            quoteList.addQuote(quote);
+        }
+
+        String output = run(new ExportQuotesCommand(null, false, tempDir.toFile()), quoteList);
+        for (int i = 1; i <= 30; i++) {
+            assertTrue(isWritten(tempDir.resolve("quote" + i + ".pdf")));
+        }
+        assertTrue(output.contains("Exported 25 of 30 quotes..."));
+        assertTrue(output.contains("Exported 30 of 30 quotes to PDF, 0 unchanged, 0 failed."));
+    }
+
+    @Test
+    public void execute_searchTerm_writesMatchingQuotesOnly() {
+        QuoteList quoteList = new QuoteList();
+        quoteList.addQuote(new Quote("march office", "a"));
+        quoteList.addQuote(new Quote("march shop", "b"));
+        quoteList.addQuote(new Quote("april office", "c"));
+
+        String output = run(new ExportQuotesCommand("march", false, tempDir.toFile()), quoteList);
+        assertTrue(Files.exists(tempDir.resolve("march office.pdf")));
+        assertTrue(Files.exists(tempDir.resolve("march shop.pdf")));
+        assertFalse(Files.exists(tempDir.resolve("april office.pdf")));
+        assertTrue(output.contains("Exported 2 of 2 quotes to PDF, 0 unchanged, 0 failed."));
+    }
+
+    @Test
+    public void execute_clashingFilenames_numbersLaterFiles() {
+        QuoteList quoteList = new QuoteList();
+        quoteList.addQuote(new Quote("v1.0", "a"));
+        quoteList.addQuote(new Quote("v1_0", "b"));
+
+        run(new ExportQuotesCommand(null, false, tempDir.toFile()), quoteList);
+        assertTrue(Files.exists(tempDir.resolve("v1_0.pdf")));
+        assertTrue(Files.exists(tempDir.resolve("v1_0_2.pdf")));
+    }
+
+    @Test
+    public void execute_unwritableFile_reportsFailureAndExportsOthers() throws IOException {
+        QuoteList quoteList = new QuoteList();
+        quoteList.addQuote(new Quote("good", "a"));
+        quoteList.addQuote(new Quote("bad", "b"));
+        // a directory in the way of the PDF makes that export fail
+        Files.createDirectory(tempDir.resolve("bad.pdf"));
+
+        String output = run(new ExportQuotesCommand(null, false, tempDir.toFile()), quoteList);
+        assertTrue(isWritten(tempDir.resolve("good.pdf")));
+        assertTrue(output.contains("Failed to export quote bad: "));
+        assertTrue(output.contains("Exported 1 of 2 quotes to PDF, 0 unchanged, 1 failed."));
+    }
+
+    @Test
+    public void execute_noQuotes_showsMessage() {
+        File directory = tempDir.toFile();
+        String output = run(new ExportQuotesCommand(null, false, directory), new QuoteList());
+        assertTrue(output.contains("There are no quotes to export."));
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    public void execute_unchangedQuotes_skippedUnlessForced() {
+        QuoteList quoteList = new QuoteList();
+        Quote changed = new Quote("changed", "a");
+        quoteList.addQuote(changed);
+        quoteList.addQuote(new Quote("same", "b"));
+        run(new ExportQuotesCommand(null, false, tempDir.toFile()), quoteList);
+
+        changed.addItem("pen", 1.5, 2, 0);
+        String output = run(new ExportQuotesCommand(null, false, tempDir.toFile()), quoteList);
+        assertTrue(output.contains("Exported 1 of 2 quotes to PDF, 1 unchanged, 0 failed."));
+
+        output = run(new ExportQuotesCommand(null, true, tempDir.toFile()), quoteList);
+        assertTrue(output.contains("Exported 2 of 2 quotes to PDF, 0 unchanged, 0 failed."));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.quotely.command;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.ui.Ui;
+import seedu.quotely.writer.ExportJob;
+import seedu.quotely.writer.ExportQueue;
+
+public class JobsCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream out;
+
+    @BeforeEach
+    void setUp() {
+        // write out anything earlier tests left in the buffer before capturing
+        Ui.getInstance().flush();
+        out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Test
+    public void execute_finishedJobs_listsStatusAndTimings() throws IOException {
+        Path directory = Files.createTempDirectory("jobs");
+        Files.createDirectory(directory.resolve("broken.pdf"));
+        ExportQueue queue = ExportQueue.getInstance();
+        ExportJob done = queue.submit(new Quote("fine", "a"), new CompanyName("default"),
+                directory.resolve("fine.pdf").toFile(), false);
+        ExportJob failed = queue.submit(new Quote("broken", "b"), new CompanyName("default"),
+                directory.resolve("broken.pdf").toFile(), false);
+        queue.awaitIdle();
+
+        Ui ui = Ui.getInstance();
+        try {
+            new JobsCommand().execute(ui, new QuoteList(), new CompanyName("default"), QuotelyState.getInstance());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+        ui.flush();
+        String output = out.toString();
+
+        assertTrue(output.contains("Export jobs:"));
+        assertTrue(output.contains("#" + done.getId() + " fine -> fine.pdf: done in "));
+        assertTrue(output.contains("#" + failed.getId() + " broken -> broken.pdf: failed after "));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.quotely.command;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import seedu.quotely.ui.Ui;
 import seedu.quotely.data.CompanyName;
 import seedu.quotely.data.QuotelyState;
@@ -25,4 +26,12 @@ public class RegisterCommandTest {
             assert false : "Execution should not fail.";
         }
     }
+
+    @Test
+    public void isMutating_registerCommand_returnTrue() {
+        RegisterCommand registerCommand = new RegisterCommand("TestCompany");
+        assertTrue(registerCommand.isMutating());
+        assertFalse(new ShowQuotesCommand().isMutating());
+        assertFalse(new SearchQuoteCommand("q").isMutating());
+    }
 }
@@ -22,6 +22,8 @@ public class SearchQuoteCommandTest {
 
     @BeforeEach
     void setUp() {
+        // write out anything earlier tests left in the buffer before capturing
+        Ui.getInstance().flush();
         out = new ByteArrayOutputStream();
         System.setOut(new PrintStream(out));
     }
@@ -47,6 +49,7 @@ public class SearchQuoteCommandTest {
             quoteList.addQuote(quote1);
             SearchQuoteCommand searchQuoteCommand1 = new SearchQuoteCommand("1");
             searchQuoteCommand1.execute(ui, quoteList, companyName, state);
+            ui.flush();
             output = out.toString();
             assertTrue(output.contains("quote1"));
             assertTrue(output.contains("c1"));
@@ -55,6 +58,7 @@ public class SearchQuoteCommandTest {
             quoteList.addQuote(quote3);
             SearchQuoteCommand searchQuoteCommand2 = new SearchQuoteCommand("quote");
             searchQuoteCommand2.execute(ui, quoteList, companyName, state);
+            ui.flush();
             output = out.toString();
             assertTrue(output.contains("quote1"));
             assertTrue(output.contains("quote2"));
@@ -76,11 +80,13 @@ public class SearchQuoteCommandTest {
         try {
             SearchQuoteCommand searchQuoteCommand1 = new SearchQuoteCommand("1");
             searchQuoteCommand1.execute(ui, quoteList, companyName, state);
+            ui.flush();
             output = out.toString();
             assertTrue(output.contains("No matching quote found"));
 
             SearchQuoteCommand searchQuoteCommand2 = new SearchQuoteCommand("-1*&!@I*()%^%$!#@!#%&%");
             searchQuoteCommand2.execute(ui, quoteList, companyName, state);
+            ui.flush();
             output = out.toString();
             assertTrue(output.contains("No matching quote found"));
         } catch (QuotelyException e) {
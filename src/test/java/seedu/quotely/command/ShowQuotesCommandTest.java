@@ -0,0 +1,149 @@
+package seedu.quotely.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+import seedu.quotely.data.QuotelyState;
+import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.ui.Ui;
+
+public class ShowQuotesCommandTest {
+    private final PrintStream originalOut = System.out;
+    private ByteArrayOutputStream out;
+
+    @BeforeEach
+    void setUp() {
+        // write out anything earlier tests left in the buffer before capturing
+        Ui.getInstance().flush();
+        out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    private static QuoteList quoteListOf(int count) {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 1; i <= count; i++) {
+            quoteList.addQuote(new Quote("quote" + i, "customer" + i));
+        }
+        return quoteList;
+    }
+
+    private String run(ShowQuotesCommand command, QuoteList quoteList) throws QuotelyException {
+        Ui ui = Ui.getInstance();
+        command.execute(ui, quoteList, new CompanyName("default"), QuotelyState.getInstance());
+        ui.flush();
+        return out.toString();
+    }
+
+    @Test
+    public void execute_noOptions_showsEveryQuoteInFull() {
+        try {
+            String output = run(new ShowQuotesCommand(), quoteListOf(3));
+            assertTrue(output.contains("Displaying all quotes:"));
+            assertTrue(output.contains("Quote ID: quote1"));
+            assertTrue(output.contains("Quote ID: quote3"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_summary_showsOneLinePerQuote() {
+        QuoteList quoteList = quoteListOf(2);
+        quoteList.getQuotes().get(0).addItem("pen", 1.5, 2, 0);
+        try {
+            String output = run(new ShowQuotesCommand(true, 0, 0), quoteList);
+            assertTrue(output.contains("1. quote1 for customer1 - 1 item, total $3.00"));
+            assertTrue(output.contains("2. quote2 for customer2 - 0 items, total $0.00"));
+            assertFalse(output.contains("Quote ID:"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_page_showsOnlyThatSlice() {
+        try {
+            String output = run(new ShowQuotesCommand(true, 2, 3), quoteListOf(7));
+            assertTrue(output.contains("Displaying quotes 4-6 of 7 (page 2 of 3):"));
+            assertTrue(output.contains("4. quote4 "));
+            assertTrue(output.contains("6. quote6 "));
+            assertFalse(output.contains("3. quote3 "));
+            assertFalse(output.contains("7. quote7 "));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_lastPage_showsRemainingQuotes() {
+        try {
+            String output = run(new ShowQuotesCommand(false, 3, 3), quoteListOf(7));
+            assertTrue(output.contains("Displaying quotes 7-7 of 7 (page 3 of 3):"));
+            assertTrue(output.contains("Quote ID: quote7"));
+            assertFalse(output.contains("Quote ID: quote6"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void execute_pageBeyondLast_throwsException() {
+        QuotelyException e = assertThrows(QuotelyException.class,
+                () -> run(new ShowQuotesCommand(false, 4, 3), quoteListOf(7)));
+        assertEquals(QuotelyException.ErrorType.INVALID_PAGE, e.getErrorType());
+        assertTrue(e.getMessage().contains("3 page(s)"));
+    }
+
+    @Test
+    public void execute_maximumPageSize_showsOnePage() {
+        try {
+            String output = run(new ShowQuotesCommand(true, 1, Integer.MAX_VALUE), quoteListOf(2));
+            assertTrue(output.contains("Displaying quotes 1-2 of 2 (page 1 of 1):"));
+        } catch (QuotelyException e) {
+            assert false : "Execution should not fail.";
+        }
+        QuotelyException e = assertThrows(QuotelyException.class,
+                () -> run(new ShowQuotesCommand(true, 2, Integer.MAX_VALUE), quoteListOf(2)));
+        assertTrue(e.getMessage().contains("1 page(s)"));
+    }
+
+    @Test
+    public void execute_maximumPage_throwsException() {
+        QuotelyException e = assertThrows(QuotelyException.class,
+                () -> run(new ShowQuotesCommand(true, Integer.MAX_VALUE, 2), quoteListOf(3)));
+        assertEquals(QuotelyException.ErrorType.INVALID_PAGE, e.getErrorType());
+        assertTrue(e.getMessage().contains("2 page(s)"));
+        e = assertThrows(QuotelyException.class,
+                () -> run(new ShowQuotesCommand(true, Integer.MAX_VALUE, Integer.MAX_VALUE), quoteListOf(3)));
+        assertTrue(e.getMessage().contains("1 page(s)"));
+    }
+
+    @Test
+    public void constructor_pageOrSizeOnly_usesDefaults() {
+        ShowQuotesCommand sizeOnly = new ShowQuotesCommand(false, 0, 10);
+        assertEquals(1, sizeOnly.getPage());
+        assertEquals(10, sizeOnly.getPageSize());
+
+        ShowQuotesCommand pageOnly = new ShowQuotesCommand(true, 2, 0);
+        assertEquals(2, pageOnly.getPage());
+        assertEquals(ShowQuotesCommand.DEFAULT_PAGE_SIZE, pageOnly.getPageSize());
+        assertTrue(pageOnly.isSummary());
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BkTreeTest {
+
+    @Test
+    void distance_editedStrings_countsEdits() {
+        assertEquals(0, BkTree.distance("quote", "quote"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(4, BkTree.distance("", "nus1"));
+        assertEquals(1, BkTree.distance("nus06", "nus6"));
+    }
+
+    @Test
+    void closest_withinDistance_closestFirst() {
+        BkTree tree = new BkTree();
+        for (String key : List.of("nus06", "nus07", "smu01", "ntu99", "nus")) {
+            tree.add(key);
+        }
+        tree.add("nus06");
+        assertEquals(5, tree.size());
+
+        assertEquals(List.of("nus", "nus06", "nus07"), tree.closest("nus0", 1, 3));
+        assertEquals(List.of("nus06", "nus07"), tree.closest("nus08", 1, 3));
+        assertEquals(List.of("nus06"), tree.closest("nus06", 1, 1));
+        assertEquals(List.of(), tree.closest("zzzzz", 2, 3));
+    }
+
+    @Test
+    void remove_thenAddAgain_onlyLiveKeysReturned() {
+        BkTree tree = new BkTree();
+        tree.add("alpha");
+        tree.add("alphb");
+        tree.remove("alpha");
+        assertEquals(List.of("alphb"), tree.closest("alpha", 1, 3));
+        assertFalse(tree.needsRebuild());
+
+        tree.remove("alphb");
+        tree.remove("missing");
+        assertTrue(tree.needsRebuild());
+        tree.add("alpha");
+        assertEquals(List.of("alpha"), tree.closest("alpha", 1, 3));
+    }
+}
@@ -38,4 +38,14 @@ public class CompanyNameTest {
             assert false : "Exception should not be thrown";
         }
     }
+
+    @Test
+    public void getVersion_setCompanyName_changesOnlyOnNewName() {
+        CompanyName companyName = new CompanyName("test4");
+        long initialVersion = companyName.getVersion();
+        companyName.setCompanyName("test4");
+        assertEquals(initialVersion, companyName.getVersion());
+        companyName.setCompanyName("test5");
+        assertEquals(initialVersion + 1, companyName.getVersion());
+    }
 }
@@ -0,0 +1,90 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ItemListTest {
+
+    private static List<String> names(List<Item> items) {
+        List<String> names = new ArrayList<>();
+        for (Item item : items) {
+            names.add(item.getItemName());
+        }
+        return names;
+    }
+
+    @Test
+    void removeByName_middleItems_orderOfRemainingItemsKept() {
+        ItemList items = new ItemList();
+        for (int i = 0; i < 100; i++) {
+            items.add(new Item("item" + i, 1.0, 1, 0.0));
+        }
+        for (int i = 10; i < 90; i++) {
+            assertEquals("item" + i, items.removeByName("item" + i).getItemName());
+        }
+
+        assertEquals(20, items.size());
+        assertFalse(items.containsName("item50"));
+        assertTrue(items.containsName("item95"));
+        assertEquals("item9", items.get(9).getItemName());
+        assertEquals("item90", items.get(10).getItemName());
+
+        items.add(new Item("item100", 1.0, 1, 0.0));
+        assertEquals("item100", items.get(20).getItemName());
+        assertEquals("item95", items.removeByName("item95").getItemName());
+        assertEquals("item96", items.get(15).getItemName());
+    }
+
+    @Test
+    void removeByName_duplicateNames_removesFirstMatch() {
+        ItemList items = new ItemList();
+        items.add(new Item("apple", 1.0, 1, 0.0));
+        items.add(new Item("pear", 2.0, 1, 0.0));
+        items.add(new Item("apple", 3.0, 1, 0.0));
+
+        assertEquals(1.0, items.removeByName("apple").getPrice());
+        assertTrue(items.containsName("apple"));
+        assertEquals(List.of("pear", "apple"), names(items));
+
+        assertEquals(3.0, items.removeByName("apple").getPrice());
+        assertFalse(items.containsName("apple"));
+        assertNull(items.removeByName("apple"));
+        assertEquals(List.of("pear"), names(items));
+    }
+
+    @Test
+    void remove_indexWithDuplicateNames_removesThatItem() {
+        ItemList items = new ItemList();
+        items.add(new Item("apple", 1.0, 1, 0.0));
+        items.add(new Item("pear", 2.0, 1, 0.0));
+        items.add(new Item("apple", 3.0, 1, 0.0));
+
+        assertEquals(3.0, items.remove(2).getPrice());
+        assertEquals(List.of("apple", "pear"), names(items));
+        assertEquals(1.0, items.get(0).getPrice());
+
+        // the first apple is still indexed by name
+        assertEquals(1.0, items.removeByName("apple").getPrice());
+        assertFalse(items.containsName("apple"));
+        assertEquals(List.of("pear"), names(items));
+    }
+
+    @Test
+    void itemList_fromCollection_indexesAllItems() {
+        List<Item> loaded = new ArrayList<>();
+        loaded.add(new Item("item1", 1.0, 1, 0.0));
+        loaded.add(new Item("item2", 2.0, 2, 0.0));
+
+        ItemList items = new ItemList(loaded);
+        assertEquals(2, items.size());
+        assertTrue(items.containsName("item2"));
+        assertEquals(loaded, items);
+    }
+}
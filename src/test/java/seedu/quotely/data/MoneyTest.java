@@ -0,0 +1,52 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MoneyTest {
+
+    @Test
+    void toCents_decimalInput_roundedHalfUp() {
+        assertEquals(999, Money.toCents(9.99));
+        assertEquals(101, Money.toCents(1.005));
+        assertEquals(1000, Money.toCents(9.999));
+        assertEquals(0, Money.toCents(0.0));
+        assertEquals(750, Money.toBasisPoints(7.5));
+    }
+
+    @Test
+    void toCents_notFinite_throwException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Money.toBasisPoints(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void tax_fractionalCents_roundedHalfUp() {
+        // 9.86 at 10% is 0.986
+        assertEquals(99, Money.tax(986, 1000));
+        // 0.10 at 5% is exactly half a cent
+        assertEquals(1, Money.tax(10, 500));
+        assertEquals(0, Money.tax(9, 500));
+        assertEquals(-1, Money.tax(-10, 500));
+        assertEquals(0, Money.tax(12345, 0));
+    }
+
+    @Test
+    void multiply_quantity_exactProduct() {
+        assertEquals(796860, Money.multiply(132810, 6));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    void format_cents_twoDecimals() {
+        assertEquals("0.00", Money.format(0));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("12.30", Money.format(1230));
+        assertEquals("1234.56", Money.format(123456));
+        assertEquals("-0.05", Money.format(-5));
+        assertEquals("-12.30", Money.format(-1230));
+        assertEquals("200.00", Money.formatPercent(20000));
+    }
+}
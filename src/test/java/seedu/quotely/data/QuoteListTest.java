@@ -2,13 +2,18 @@ package seedu.quotely.data;
 
 import org.junit.jupiter.api.Test;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.JsonSerializer;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class QuoteListTest {
     @Test
@@ -116,4 +121,183 @@ public class QuoteListTest {
             assert false : "Exception should not be thrown";
         }
     }
+
+    @Test
+    void getVersion_quoteOrItemChanged_versionChanges() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            long initialVersion = quoteList.getVersion();
+            Quote quote = new Quote("quote1", "customer1");
+            quoteList.addQuote(quote);
+            long afterAddQuote = quoteList.getVersion();
+            assertNotEquals(initialVersion, afterAddQuote);
+
+            quote.addItem("item1", 1.0, 1, 0.0);
+            long afterAddItem = quoteList.getVersion();
+            assertNotEquals(afterAddQuote, afterAddItem);
+
+            quoteList.getQuoteByName("quote1");
+            quoteList.searchQuote("quote");
+            assertEquals(afterAddItem, quoteList.getVersion());
+
+            quoteList.removeQuote(quote);
+            long afterRemove = quoteList.getVersion();
+            assertNotEquals(afterAddItem, afterRemove);
+
+            // removed quotes no longer affect the list
+            quote.addItem("item2", 1.0, 1, 0.0);
+            assertEquals(afterRemove, quoteList.getVersion());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void getQuoteByName_differentCase_returnsSameQuote() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote = new Quote("Quote1", "customer1");
+            quoteList.addQuote(quote);
+            assertTrue(quoteList.hasQuote("QUOTE1"));
+            assertSame(quote, quoteList.getQuoteByName("quote1"));
+
+            quoteList.removeQuote(new Quote("qUoTe1", "customer1"));
+            assertFalse(quoteList.hasQuote("quote1"));
+            assertEquals(0, quoteList.getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void validate_duplicateNamesLoaded_lookupFindsEachInOrder() {
+        // a hand-edited data file may hold the same name twice
+        String json = "{\"quoteList\": {\"quotes\": ["
+                + "{\"quoteName\": \"quote1\", \"customerName\": \"customer1\", \"items\": []},"
+                + "{\"quoteName\": \"QUOTE1\", \"customerName\": \"customer2\", \"items\": []}]}}";
+        QuoteList quoteList = new JsonSerializer().deserialize(json).getQuoteList();
+        try {
+            assertEquals(2, quoteList.getQuotes().size());
+            Quote first = quoteList.getQuotes().get(0);
+            Quote second = quoteList.getQuotes().get(1);
+            assertEquals("customer1", first.getCustomerName());
+            assertSame(first, quoteList.getQuoteByName("quote1"));
+
+            quoteList.removeQuote(first);
+            assertSame(second, quoteList.getQuoteByName("quote1"));
+            quoteList.removeQuote(second);
+            assertFalse(quoteList.hasQuote("quote1"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void getQuotes_modified_throwsException() {
+        QuoteList quoteList = new QuoteList();
+        quoteList.addQuote(new Quote("quote1", "customer1"));
+        assertThrows(UnsupportedOperationException.class, () -> quoteList.getQuotes().add(new Quote("x", "y")));
+        assertThrows(UnsupportedOperationException.class, () -> quoteList.getQuotes().remove(0));
+        assertTrue(quoteList.hasQuote("quote1"));
+    }
+
+    @Test
+    void removeQuote_manyQuotes_orderAndLookupsKept() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            for (int i = 0; i < 100; i++) {
+                quoteList.addQuote(new Quote("quote" + i, "customer" + i));
+            }
+            for (int i = 10; i < 90; i++) {
+                quoteList.removeQuote(new Quote("QUOTE" + i, "customer" + i));
+            }
+
+            List<Quote> quotes = quoteList.getQuotes();
+            assertEquals(20, quotes.size());
+            assertEquals("quote9", quotes.get(9).getQuoteName());
+            assertEquals("quote90", quotes.get(10).getQuoteName());
+            assertFalse(quoteList.hasQuote("quote50"));
+            assertSame(quotes.get(10), quoteList.getQuoteByName("quote90"));
+            assertEquals("quote90", quoteList.copy().getQuotes().get(10).getQuoteName());
+
+            Quote again = new Quote("quote50", "customer50");
+            quoteList.addQuote(again);
+            assertSame(again, quoteList.getQuotes().get(20));
+            assertSame(again, quoteList.getQuoteByName("QUOTE50"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void searchQuote_customerAndItemWords_matchedWithAllTerms() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("NUS06", "Acme Trading");
+            quote1.addItem("steel bolts", 1.0, 1, 0.0);
+            Quote quote2 = new Quote("SMU01", "Acme Foods");
+            quote2.addItem("rice", 1.0, 1, 0.0);
+            quoteList.addQuote(quote1);
+            quoteList.addQuote(quote2);
+
+            assertEquals(List.of(quote1, quote2), quoteList.searchQuote("acme"));
+            assertEquals(List.of(quote1), quoteList.searchQuote("acme bolt"));
+            assertEquals(List.of(quote2), quoteList.searchQuote("FOODS smu"));
+            assertEquals(List.of(quote1), quoteList.searchQuote("S06"));
+            assertEquals(0, quoteList.searchQuote("acme bread").size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void searchQuote_afterChanges_indexUpToDate() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("quote1", "customer1");
+            quoteList.addQuote(quote1);
+            assertEquals(0, quoteList.searchQuote("widget").size());
+
+            quote1.addItem("widget", 1.0, 1, 0.0);
+            Quote quote2 = new Quote("quote2", "customer2");
+            quote2.addItem("widget", 2.0, 1, 0.0);
+            quoteList.addQuote(quote2);
+            assertEquals(List.of(quote1, quote2), quoteList.searchQuote("widget"));
+
+            quote1.removeItem("widget");
+            assertEquals(List.of(quote2), quoteList.searchQuote("widget"));
+            quoteList.removeQuote(quote2);
+            assertEquals(0, quoteList.searchQuote("widget").size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void suggestQuoteNames_afterChanges_onlyExistingQuotesSuggested() {
+        QuoteList quoteList = new QuoteList();
+        try {
+            Quote quote1 = new Quote("Renovation", "customer1");
+            quoteList.addQuote(quote1);
+            assertEquals(List.of("Renovation"), quoteList.suggestQuoteNames("renovatoin"));
+
+            quoteList.addQuote(new Quote("Renovations", "customer2"));
+            assertEquals(List.of("Renovation", "Renovations"), quoteList.suggestQuoteNames("renovatio"));
+
+            quoteList.removeQuote(quote1);
+            assertEquals(List.of("Renovations"), quoteList.suggestQuoteNames("renovatio"));
+            assertEquals(0, quoteList.suggestQuoteNames("").size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void suggestQuoteNames_manyCloseNames_suggestsThree() {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 1; i <= 5; i++) {
+            quoteList.addQuote(new Quote("quote" + i, "customer" + i));
+        }
+        assertEquals(3, quoteList.suggestQuoteNames("quote").size());
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.quotely.data;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import org.junit.jupiter.api.Test;
 import seedu.quotely.exception.QuotelyException;
+import seedu.quotely.storage.ItemTypeAdapter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +19,9 @@ public class QuoteTest {
     private static final double NO_TAX = 0.0;
     private static final double TEST_TAX_RATE_1 = 10.0;
     private static final double TEST_TAX_RATE_2 = 5.0;
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(Item.class, new ItemTypeAdapter())
+            .create();
 
     @Test
     void quote_validInput_constructorSuccess() {
@@ -66,6 +72,15 @@ public class QuoteTest {
         }
     }
 
+    @Test
+    void getItems_modified_throwsException() {
+        Quote quote = new Quote("test", "customer");
+        quote.addItem("item1", 1.0, 2, NO_TAX);
+        assertThrows(UnsupportedOperationException.class, () -> quote.getItems().add(new Item("x", 1.0, 1, NO_TAX)));
+        assertThrows(UnsupportedOperationException.class, () -> quote.getItems().remove(0));
+        assertEquals(200, quote.getSubtotalCents());
+    }
+
     @Test
     void getItems_validInput_returnItemsArrayList() {
         Quote quote = new Quote("test5", "customer5");
@@ -105,7 +120,7 @@ public class QuoteTest {
     }
 
     /**
-     * Tests private method getItemIndex implicitly
+     * Tests the item name index implicitly
      */
     @Test
     void removeItem_validInput_removedItemFromQuote() {
@@ -168,4 +183,48 @@ public class QuoteTest {
             assert false : "Exception should not be thrown";
         }
     }
+
+    @Test
+    void getQuoteTotal_itemsRemovedOrChanged_totalsFollow() {
+        Quote quote = new Quote("test11", "customer11");
+        try {
+            quote.addItem("item1", 10.0, 2, TEST_TAX_RATE_1);
+            quote.addItem("item2", 5.0, 1, NO_TAX);
+            assertEquals(25.0, quote.getQuoteTotalPriceWithoutTax(), 0.001);
+            assertEquals(2.0, quote.getQuoteTotalTax(), 0.001);
+
+            quote.getItems().get(0).setQuantity(3);
+            assertEquals(35.0, quote.getQuoteTotalPriceWithoutTax(), 0.001);
+            assertEquals(3.0, quote.getQuoteTotalTax(), 0.001);
+
+            quote.removeItem("item1");
+            assertEquals(5.0, quote.getQuoteTotal(), 0.001);
+            quote.removeItem("item2");
+            assertEquals(0.0, quote.getQuoteTotalPriceWithoutTax());
+            assertEquals(0.0, quote.getQuoteTotalTax());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    void getQuoteTotal_loadedFromJson_totalsComputed() {
+        Quote quote = GSON.fromJson("{\"quoteName\": \"q\", \"customerName\": \"c\", "
+                + "\"items\": [{\"itemName\": \"item1\", \"price\": 2.5, \"quantity\": 4, \"taxRate\": 10.0}]}",
+                Quote.class);
+        try {
+            quote.addItem("item2", 1.0, 1, NO_TAX);
+            assertEquals(12.0, quote.getQuoteTotal(), 0.001);
+            quote.removeItem("item1");
+            assertEquals(1.0, quote.getQuoteTotal(), 0.001);
+
+            Quote loaded = GSON.fromJson("{\"quoteName\": \"q\", \"customerName\": \"c\", "
+                    + "\"items\": [{\"itemName\": \"item1\", \"price\": 2.5, \"quantity\": 4, \"taxRate\": 0.0}, "
+                    + "{\"itemName\": \"item2\", \"price\": 1.0, \"quantity\": 1, \"taxRate\": 0.0}]}", Quote.class);
+            loaded.removeItem("item1");
+            assertEquals(1.0, loaded.getQuoteTotal(), 0.001);
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SearchIndexTest {
+
+    @Test
+    void tokenize_mixedSeparators_distinctWords() {
+        assertEquals(Set.of("steel", "bolts", "m8", "x"), SearchIndex.tokenize("steel-bolts m8 x steel"));
+        assertEquals(Set.of(), SearchIndex.tokenize(" - "));
+    }
+
+    @Test
+    void search_sharedWordRemovedFromOneField_quoteStillFound() {
+        SearchIndex index = new SearchIndex();
+        Quote quote = new Quote("paint job", "Paint Co");
+        quote.addItem("paint", 1.0, 1, 0.0);
+        index.addQuote(quote);
+        Item item = quote.getItems().get(0);
+
+        index.removeItem(quote, item);
+        assertEquals(List.of(quote), index.search("paint"));
+        index.removeQuote(quote);
+        assertEquals(List.of(), index.search("paint"));
+    }
+
+    @Test
+    void search_substringOfNameOrCustomer_found() {
+        SearchIndex index = new SearchIndex();
+        Quote quote1 = new Quote("NUS06", "Hillcrest Builders");
+        Quote quote2 = new Quote("B2", "Ng");
+        Quote quote3 = new Quote("SMU01", "Acme");
+        index.addQuote(quote1);
+        index.addQuote(quote2);
+        index.addQuote(quote3);
+
+        assertEquals(List.of(quote1), index.search("crest"));
+        assertEquals(List.of(quote1), index.search("us0"));
+        assertEquals(List.of(quote1, quote3), index.search("u"));
+        assertEquals(List.of(quote2), index.search("ng"));
+        assertEquals(List.of(quote2), index.search("b2"));
+        assertEquals(List.of(), index.search("crestb"));
+
+        index.removeQuote(quote1);
+        assertEquals(List.of(), index.search("crest"));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.quotely.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SlotListTest {
+
+    @Test
+    void removeElement_middleElements_orderOfRemainingElementsKept() {
+        List<String> added = new ArrayList<>();
+        SlotList<String> list = new SlotList<>();
+        for (int i = 0; i < 100; i++) {
+            String element = "element" + i;
+            added.add(element);
+            list.add(element);
+        }
+        for (int i = 10; i < 90; i++) {
+            assertTrue(list.removeElement(added.get(i)));
+        }
+
+        assertEquals(20, list.size());
+        assertEquals("element9", list.get(9));
+        assertEquals("element90", list.get(10));
+
+        list.add("element100");
+        assertEquals("element100", list.get(20));
+        assertTrue(list.removeElement(added.get(95)));
+        assertEquals("element96", list.get(15));
+    }
+
+    @Test
+    void removeElement_equalButDistinctElements_removesThatElement() {
+        String first = new String("quote");
+        String second = new String("quote");
+        SlotList<String> list = new SlotList<>(List.of(first, "other", second));
+
+        assertFalse(list.removeElement(new String("quote")));
+        assertTrue(list.removeElement(second));
+        assertFalse(list.removeElement(second));
+
+        assertEquals(List.of("quote", "other"), list);
+        assertSame(first, list.get(0));
+    }
+
+    @Test
+    void iterator_afterRemovals_skipsEmptySlots() {
+        String first = "first";
+        String second = "second";
+        String third = "third";
+        SlotList<String> list = new SlotList<>(List.of(first, second, third));
+        list.removeElement(first);
+        list.remove(1);
+
+        List<String> seen = new ArrayList<>();
+        for (String element : list) {
+            seen.add(element);
+        }
+        assertEquals(List.of("second"), seen);
+    }
+}
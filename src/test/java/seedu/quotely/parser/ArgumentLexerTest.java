@@ -0,0 +1,74 @@
+package seedu.quotely.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ArgumentLexerTest {
+
+    @Test
+    public void startsWithPrefix_prefixAtStart_returnsTrue() {
+        assertTrue(ArgumentLexer.startsWithPrefix("n/quote", 'n'));
+        assertTrue(ArgumentLexer.startsWithPrefix("n/", 'n'));
+        assertFalse(ArgumentLexer.startsWithPrefix("c/quote", 'n'));
+        assertFalse(ArgumentLexer.startsWithPrefix("n", 'n'));
+        assertFalse(ArgumentLexer.startsWithPrefix("", 'n'));
+    }
+
+    @Test
+    public void indexOfPrefix_prefixAfterWhitespace_returnsIndexOfPrefix() {
+        assertEquals(6, ArgumentLexer.indexOfPrefix("n/abc c/def", 'c', 0));
+        assertEquals(6, ArgumentLexer.indexOfPrefix("n/abc\tc/def", 'c', 0));
+        assertEquals(8, ArgumentLexer.indexOfPrefix("n/abc   c/def", 'c', 4));
+    }
+
+    @Test
+    public void indexOfPrefix_prefixInsideWord_ignored() {
+        assertEquals(-1, ArgumentLexer.indexOfPrefix("n/abc/def", 'c', 0));
+        assertEquals(10, ArgumentLexer.indexOfPrefix("n/abc/def c/x", 'c', 0));
+    }
+
+    @Test
+    public void indexOfPrefix_beforeFrom_notFound() {
+        assertEquals(-1, ArgumentLexer.indexOfPrefix("n/a c/def", 'c', 5));
+        assertEquals(8, ArgumentLexer.indexOfPrefix("i/a c/b c/d", 'c', 5));
+    }
+
+    @Test
+    public void indexOfPrefix_slashMissing_notFound() {
+        assertEquals(-1, ArgumentLexer.indexOfPrefix("n/abc c", 'c', 0));
+        assertEquals(-1, ArgumentLexer.indexOfPrefix("n/abc cd", 'c', 0));
+    }
+
+    @Test
+    public void valueBetween_surroundingWhitespace_trimmed() {
+        assertEquals("abc", ArgumentLexer.valueBetween("n/ abc  c/def", 2, 8));
+        assertEquals("", ArgumentLexer.valueBetween("p/  q/1", 2, 4));
+    }
+
+    @Test
+    public void isValidName_allowedCharacters_returnsTrue() {
+        assertTrue(ArgumentLexer.isValidName("Ab9 _'&.,()-"));
+        assertTrue(ArgumentLexer.isValidName("NUS (Phase 2)"));
+    }
+
+    @Test
+    public void isValidName_otherCharacters_returnsFalse() {
+        assertFalse(ArgumentLexer.isValidName(""));
+        assertFalse(ArgumentLexer.isValidName("a/b"));
+        assertFalse(ArgumentLexer.isValidName("a\tb"));
+        assertFalse(ArgumentLexer.isValidName("caf\u00e9"));
+        assertFalse(ArgumentLexer.isValidName("50%"));
+    }
+
+    @Test
+    public void startsWithWord_wordBeforeWhitespaceOrAlone_returnsTrue() {
+        assertTrue(ArgumentLexer.startsWithWord("-f", "-f"));
+        assertTrue(ArgumentLexer.startsWithWord("-f\tn/q1", "-f"));
+        assertFalse(ArgumentLexer.startsWithWord("-force", "-f"));
+        assertFalse(ArgumentLexer.startsWithWord("n/q1 -f", "-f"));
+        assertFalse(ArgumentLexer.startsWithWord("", "-f"));
+    }
+}
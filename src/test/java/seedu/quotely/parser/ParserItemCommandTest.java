@@ -10,6 +10,7 @@ import seedu.quotely.data.QuoteList;
 import seedu.quotely.exception.QuotelyException;
 import seedu.quotely.ui.Ui;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -174,6 +175,32 @@ public class ParserItemCommandTest {
         });
     }
 
+    @Test
+    public void parseAddItemCommand_notANumberPrice_throwException() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        Quote q = new Quote("quote 1", "customer 1");
+        state.setOutsideQuote();
+        quoteList.addQuote(q);
+        QuotelyException e = assertThrows(QuotelyException.class, () -> {
+            Parser.parse("add i/Item1 n/quote 1 p/NaN q/2", state, quoteList);
+        });
+        assertEquals(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT, e.getErrorType());
+    }
+
+    @Test
+    public void parseAddItemCommand_notANumberTaxRate_throwException() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        Quote q = new Quote("quote 1", "customer 1");
+        state.setOutsideQuote();
+        quoteList.addQuote(q);
+        QuotelyException e = assertThrows(QuotelyException.class, () -> {
+            Parser.parse("add i/Item1 n/quote 1 p/10.0 q/2 t/NaN", state, quoteList);
+        });
+        assertEquals(QuotelyException.ErrorType.INVALID_NUMBER_FORMAT, e.getErrorType());
+    }
+
     @Test
     public void parseAddItemCommand_invalidQuantityOutsideQuote_throwException() {
         QuotelyState state = QuotelyState.getInstance();
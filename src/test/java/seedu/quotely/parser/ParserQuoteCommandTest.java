@@ -1,11 +1,19 @@
 package seedu.quotely.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.quotely.command.Command;
+import seedu.quotely.command.ExportQuoteCommand;
+import seedu.quotely.command.ExportQuotesCommand;
+import seedu.quotely.command.ExportReportCommand;
 import seedu.quotely.command.FinishQuoteCommand;
 import seedu.quotely.command.NavigateCommand;
 import seedu.quotely.data.Quote;
@@ -342,4 +350,129 @@ public class ParserQuoteCommandTest {
             Parser.parse("export n/invalid quote", state, quoteList);
         });
     }
+
+    @Test
+    public void parserExportCommand_all_returnExportQuotesCommand() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        state.setOutsideQuote();
+        try {
+            Command command = Parser.parse("export all", state, quoteList);
+            assertTrue(command instanceof ExportQuotesCommand);
+            assertNull(((ExportQuotesCommand) command).getSearchTerm());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void parserExportCommand_force_returnForcedCommands() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        Quote q = new Quote("quote 1", "customer 1");
+        state.setOutsideQuote();
+        quoteList.addQuote(q);
+        try {
+            Command command = Parser.parse("export -f n/quote 1", state, quoteList);
+            assertTrue(((ExportQuoteCommand) command).isForced());
+            command = Parser.parse("export n/quote 1", state, quoteList);
+            assertFalse(((ExportQuoteCommand) command).isForced());
+            command = Parser.parse("export -f all", state, quoteList);
+            assertTrue(((ExportQuotesCommand) command).isForced());
+            command = Parser.parse("export -f search/quote", state, quoteList);
+            assertEquals("quote", ((ExportQuotesCommand) command).getSearchTerm());
+            assertTrue(((ExportQuotesCommand) command).isForced());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void parserExportCommand_namesEndingInForce_notForced() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        quoteList.addQuote(new Quote("Task force", "customer 1"));
+        state.setOutsideQuote();
+        try {
+            Command command = Parser.parse("export n/Task force", state, quoteList);
+            assertFalse(((ExportQuoteCommand) command).isForced());
+            command = Parser.parse("export n/Task force f/sales force", state, quoteList);
+            assertFalse(((ExportQuoteCommand) command).isForced());
+            command = Parser.parse("export search/task force", state, quoteList);
+            assertEquals("task force", ((ExportQuotesCommand) command).getSearchTerm());
+            assertFalse(((ExportQuotesCommand) command).isForced());
+            command = Parser.parse("export -f n/Task force", state, quoteList);
+            assertTrue(((ExportQuoteCommand) command).isForced());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void parserExportCommand_searchTerm_returnExportQuotesCommand() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        state.setOutsideQuote();
+        try {
+            Command command = Parser.parse("export search/ march invoices ", state, quoteList);
+            assertTrue(command instanceof ExportQuotesCommand);
+            assertEquals("march invoices", ((ExportQuotesCommand) command).getSearchTerm());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+        assertThrows(QuotelyException.class, () -> {
+            Parser.parse("export search/", state, quoteList);
+        });
+    }
+
+    @Test
+    public void parserExportCommand_reportFilename_returnExportReportCommand() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        state.setOutsideQuote();
+        try {
+            Command command = Parser.parse("export all f/all quotes.pdf", state, quoteList);
+            assertTrue(command instanceof ExportReportCommand);
+            assertNull(((ExportReportCommand) command).getSearchTerm());
+            assertEquals("all quotes", ((ExportReportCommand) command).getFilename());
+            assertFalse(((ExportReportCommand) command).isForced());
+
+            command = Parser.parse("export -f search/march f/march", state, quoteList);
+            assertEquals("march", ((ExportReportCommand) command).getSearchTerm());
+            assertEquals("march", ((ExportReportCommand) command).getFilename());
+            assertTrue(((ExportReportCommand) command).isForced());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+        assertThrows(QuotelyException.class, () -> {
+            Parser.parse("export all f/", state, quoteList);
+        });
+    }
+
+    @Test
+    public void parseNavCommand_mistypedQuoteName_suggestsClosestNames() {
+        QuotelyState state = QuotelyState.getInstance();
+        QuoteList quoteList = new QuoteList();
+        state.setOutsideQuote();
+        quoteList.addQuote(new Quote("invoice 2024", "customer 1"));
+        quoteList.addQuote(new Quote("invoice 2025", "customer 2"));
+        quoteList.addQuote(new Quote("repairs", "customer 3"));
+
+        QuotelyException e = assertThrows(QuotelyException.class, () -> {
+            Parser.parse("nav n/invoise 2024", state, quoteList);
+        });
+        assertEquals(QuotelyException.ErrorType.QUOTE_NOT_FOUND, e.getErrorType());
+        assertEquals(List.of("invoice 2024", "invoice 2025"), e.getSuggestions());
+        assertTrue(e.getMessage().endsWith("Did you mean: invoice 2024, invoice 2025?"));
+
+        e = assertThrows(QuotelyException.class, () -> {
+            Parser.parse("unquote n/repair", state, quoteList);
+        });
+        assertEquals(List.of("repairs"), e.getSuggestions());
+
+        e = assertThrows(QuotelyException.class, () -> {
+            Parser.parse("unquote n/unrelated", state, quoteList);
+        });
+        assertEquals(List.of(), e.getSuggestions());
+    }
 }
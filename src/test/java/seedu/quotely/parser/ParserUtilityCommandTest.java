@@ -1,5 +1,6 @@
 package seedu.quotely.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.quotely.command.Command;
 import seedu.quotely.command.SearchQuoteCommand;
+import seedu.quotely.command.ShowQuotesCommand;
 import seedu.quotely.data.Quote;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.data.QuoteList;
@@ -114,6 +116,32 @@ public class ParserUtilityCommandTest {
         }
     }
 
+    @Test
+    public void parseShowQuotesCommand_options_returnShowQuotesCommand() {
+        try {
+            QuoteList quoteList = new QuoteList();
+            QuotelyState state = QuotelyState.getInstance();
+            Command command = Parser.parse("show summary  page/3 size/50", state, quoteList);
+            assertTrue(command instanceof ShowQuotesCommand);
+            ShowQuotesCommand show = (ShowQuotesCommand) command;
+            assertTrue(show.isSummary());
+            assertEquals(3, show.getPage());
+            assertEquals(50, show.getPageSize());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void parseShowQuotesCommand_invalidOptions_throwException() {
+        QuoteList quoteList = new QuoteList();
+        QuotelyState state = QuotelyState.getInstance();
+        assertThrows(QuotelyException.class, () -> Parser.parse("show all", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("show page/0", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("show page/two", state, quoteList));
+        assertThrows(QuotelyException.class, () -> Parser.parse("show size/-5", state, quoteList));
+    }
+
     @Test
     public void parseSearchCommand_validInput_returnSearchQuoteCommand() {
         QuoteList quoteList = new QuoteList();
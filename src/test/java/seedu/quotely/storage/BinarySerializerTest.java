@@ -0,0 +1,148 @@
+package seedu.quotely.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinarySerializerTest {
+
+    private static ApplicationData createSampleData() {
+        QuoteList quoteList = new QuoteList();
+        for (int i = 0; i < 10; i++) {
+            Quote quote = new Quote("quote" + i, "customer" + i);
+            quote.addItem("item" + i, 12.5 + i, i + 1, 8.0);
+            quote.addItem("caf\u00e9 " + i, 3.0, 2, 0.0);
+            quoteList.addQuote(quote);
+        }
+        ApplicationData appData = new ApplicationData(quoteList, new CompanyName("Acme"));
+        appData.setJournalSequence(7);
+        return appData;
+    }
+
+    @Test
+    public void save_thenLoad_roundTrip() {
+        try {
+            Path file = Files.createTempDirectory("binary").resolve("quotely.bin");
+            BinarySnapshotStore store = new BinarySnapshotStore(file, new BinarySerializer());
+            assertFalse(store.exists());
+
+            store.save(createSampleData());
+            assertTrue(store.exists());
+
+            ApplicationData loaded = store.load();
+            assertEquals("Acme", loaded.getCompanyName().getCompanyName());
+            assertEquals(7, loaded.getJournalSequence());
+            assertEquals(10, loaded.getQuoteList().getQuotes().size());
+            Quote quote = loaded.getQuoteList().getQuotes().get(3);
+            assertEquals("quote3", quote.getQuoteName());
+            assertEquals("customer3", quote.getCustomerName());
+            assertEquals("item3", quote.getItems().get(0).getItemName());
+            assertEquals(15.5, quote.getItems().get(0).getPrice());
+            assertEquals(4, quote.getItems().get(0).getQuantity());
+            assertEquals(8.0, quote.getItems().get(0).getTaxRate());
+            assertEquals("caf\u00e9 3", quote.getItems().get(1).getItemName());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void save_sameData_smallerThanJson() {
+        try {
+            Path file = Files.createTempDirectory("binary").resolve("quotely.bin");
+            ApplicationData appData = createSampleData();
+            new BinarySnapshotStore(file, new BinarySerializer()).save(appData);
+
+            StringWriter json = new StringWriter();
+            new JsonSerializer().serialize(appData, json);
+            assertTrue(Files.size(file) < json.toString().length());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void deserialize_corruptedPayload_throwsIoException() throws Exception {
+        Path file = Files.createTempDirectory("binary").resolve("quotely.bin");
+        new BinarySnapshotStore(file, new BinarySerializer()).save(createSampleData());
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[BinarySerializer.HEADER_LENGTH + 20] ^= 0x01;
+        assertThrows(IOException.class, () -> new BinarySerializer().deserialize(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void deserialize_truncatedPayload_throwsIoException() throws Exception {
+        byte[] bytes = createSampleBytes();
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+        assertDeserializeFails(truncated, "Binary data file is truncated");
+    }
+
+    @Test
+    public void deserialize_dataAfterPayload_throwsIoException() throws Exception {
+        byte[] bytes = createSampleBytes();
+        byte[] extended = Arrays.copyOf(bytes, bytes.length + 4);
+        assertDeserializeFails(extended, "Binary data file has data after the payload");
+    }
+
+    @Test
+    public void deserialize_headerLengthTooLong_throwsIoException() throws Exception {
+        byte[] bytes = createSampleBytes();
+        byte[] extended = Arrays.copyOf(bytes, bytes.length + 4);
+        setPayloadLength(extended, bytes.length - BinarySerializer.HEADER_LENGTH + 4);
+        assertDeserializeFails(extended, "Binary payload is shorter than the header's payload length");
+    }
+
+    @Test
+    public void deserialize_headerLengthTooShort_throwsIoException() throws Exception {
+        byte[] bytes = createSampleBytes();
+        setPayloadLength(bytes, bytes.length - BinarySerializer.HEADER_LENGTH - 1);
+        assertDeserializeFails(bytes, "Binary payload is longer than the header's payload length");
+    }
+
+    @Test
+    public void deserialize_notBinaryFormat_throwsIoException() {
+        byte[] json = "{\"companyName\": \"Acme\"}".getBytes();
+        assertThrows(IOException.class, () -> new BinarySerializer().deserialize(new ByteArrayInputStream(json)));
+    }
+
+    @Test
+    public void deserialize_emptyStream_returnsEmptyData() {
+        try {
+            ApplicationData loaded = new BinarySerializer().deserialize(new ByteArrayInputStream(new byte[0]));
+            assertEquals(0, loaded.getQuoteList().getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    private static byte[] createSampleBytes() throws IOException {
+        Path file = Files.createTempDirectory("binary").resolve("quotely.bin");
+        new BinarySnapshotStore(file, new BinarySerializer()).save(createSampleData());
+        return Files.readAllBytes(file);
+    }
+
+    private static void setPayloadLength(byte[] bytes, long payloadLength) {
+        ByteBuffer.wrap(bytes).putLong(8, payloadLength);
+    }
+
+    private static void assertDeserializeFails(byte[] bytes, String message) {
+        IOException e = assertThrows(IOException.class,
+                () -> new BinarySerializer().deserialize(new ByteArrayInputStream(bytes)));
+        assertEquals(message, e.getMessage());
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.quotely.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.Quote;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JournalTest {
+
+    @Test
+    public void replay_appendedEntries_rebuildsData() {
+        try {
+            Path tempDir = Files.createTempDirectory("journal");
+            Journal journal = new Journal(tempDir.toString(), "test.journal");
+            journal.append(JournalEntry.register("Acme"));
+            journal.append(JournalEntry.addQuote("q1", "c1"));
+            journal.append(JournalEntry.addItem("q1", "item1", 10.0, 2, 5.0));
+            journal.append(JournalEntry.addItem("q1", "item2", 1.0, 1, 0.0));
+            journal.append(JournalEntry.deleteItem("q1", "item2"));
+            journal.append(JournalEntry.addQuote("q2", "c2"));
+            journal.append(JournalEntry.deleteQuote("q2"));
+            assertEquals(7, journal.size());
+
+            ApplicationData appData = new ApplicationData();
+            Journal reopened = new Journal(tempDir.toString(), "test.journal");
+            assertEquals(7, reopened.replay(appData));
+            assertEquals(7, reopened.getLastSequence());
+
+            assertEquals("Acme", appData.getCompanyName().getCompanyName());
+            assertEquals(1, appData.getQuoteList().getQuotes().size());
+            Quote quote = appData.getQuoteList().getQuoteByName("q1");
+            assertEquals(1, quote.getItems().size());
+            assertTrue(quote.hasItem("item1"));
+            assertFalse(quote.hasItem("item2"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void replay_entriesCoveredBySnapshot_skipped() {
+        try {
+            Path tempDir = Files.createTempDirectory("journal");
+            Journal journal = new Journal(tempDir.toString(), "test.journal");
+            journal.append(JournalEntry.addQuote("q1", "c1"));
+            journal.append(JournalEntry.addItem("q1", "item1", 10.0, 2, 0.0));
+
+            ApplicationData snapshot = new ApplicationData();
+            snapshot.getQuoteList().addQuote(new Quote("q1", "c1"));
+            snapshot.setJournalSequence(1);
+
+            assertEquals(1, new Journal(tempDir.toString(), "test.journal").replay(snapshot));
+            assertEquals(1, snapshot.getQuoteList().getQuotes().size());
+            assertEquals(1, snapshot.getQuoteList().getQuoteByName("q1").getItems().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void replay_truncatedLastLine_stopsAtValidPrefix() {
+        try {
+            Path tempDir = Files.createTempDirectory("journal");
+            Journal journal = new Journal(tempDir.toString(), "test.journal");
+            journal.append(JournalEntry.addQuote("q1", "c1"));
+            Files.writeString(journal.getJournalFilePath(), "{\"sequence\":2,\"type\":\"ADD_QU",
+                    java.nio.file.StandardOpenOption.APPEND);
+
+            ApplicationData appData = new ApplicationData();
+            assertEquals(1, new Journal(tempDir.toString(), "test.journal").replay(appData));
+            assertEquals(1, appData.getQuoteList().getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void replay_tornLineThenRetriedEntries_appliesEachOnce() {
+        try {
+            // the first write of entries 2 and 3 got as far as half of entry 3 before failing
+            Path failedDir = Files.createTempDirectory("journal");
+            Journal failed = new Journal(failedDir.toString(), "test.journal");
+            failed.append(JournalEntry.addQuote("q1", "c1"));
+            failed.append(JournalEntry.addItem("q1", "item1", 10.0, 2, 0.0));
+            Files.writeString(failed.getJournalFilePath(), "{\"sequence\":3,\"type\":\"ADD_QU",
+                    java.nio.file.StandardOpenOption.APPEND);
+
+            // the retry writes entries 2 and 3 again with the same sequence numbers
+            Path tempDir = Files.createTempDirectory("journal");
+            Journal journal = new Journal(tempDir.toString(), "test.journal");
+            journal.append(JournalEntry.addQuote("q1", "c1"));
+            Files.copy(failed.getJournalFilePath(), journal.getJournalFilePath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            journal.append(List.of(JournalEntry.addItem("q1", "item1", 10.0, 2, 0.0),
+                    JournalEntry.addQuote("q2", "c2")));
+
+            ApplicationData appData = new ApplicationData();
+            Journal reopened = new Journal(tempDir.toString(), "test.journal");
+            assertEquals(3, reopened.replay(appData));
+            assertEquals(3, reopened.getLastSequence());
+            assertEquals(2, appData.getQuoteList().getQuotes().size());
+            assertEquals(1, appData.getQuoteList().getQuoteByName("q1").getItems().size());
+            assertTrue(appData.getQuoteList().hasQuote("q2"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void clear_afterAppend_emptiesJournalAndKeepsSequence() {
+        try {
+            Path tempDir = Files.createTempDirectory("journal");
+            Journal journal = new Journal(tempDir.toString(), "test.journal");
+            journal.append(JournalEntry.register("Acme"));
+            journal.clear();
+            assertEquals(0, journal.size());
+            assertEquals(0, Files.size(journal.getJournalFilePath()));
+
+            journal.append(JournalEntry.register("Other"));
+            assertEquals(2, journal.getLastSequence());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+}
@@ -11,6 +11,9 @@ import seedu.quotely.data.QuoteList;
 import seedu.quotely.data.QuotelyState;
 import seedu.quotely.ui.Ui;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -172,5 +175,59 @@ public class JsonSerializerTest {
             assert false : "Execution should not fail.";
         }
     }
-}
 
+    @Test
+    public void serialize_toWriter_matchesStringOutput() {
+        try {
+            JsonSerializer serializer = new JsonSerializer();
+            ApplicationData appData = serializer.deserialize(referenceJsonString3);
+
+            StringWriter writer = new StringWriter();
+            serializer.serialize(appData, writer);
+            assertEquals(referenceJsonString3, writer.toString());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void deserialize_fromReader_success() {
+        try {
+            JsonSerializer serializer = new JsonSerializer();
+
+            ApplicationData appData = serializer.deserialize(new StringReader(referenceJsonString3));
+            assertEquals(1, appData.getQuoteList().getQuotes().size());
+            Item item = appData.getQuoteList().getQuotes().get(0).getItems().get(0);
+            assertEquals("TestItem", item.getItemName());
+            assertEquals(2, item.getQuantity());
+
+            ApplicationData emptyData = serializer.deserialize(new StringReader(""));
+            assertEquals(0, emptyData.getQuoteList().getQuotes().size());
+
+            ApplicationData corruptData = serializer.deserialize(new StringReader("{ \"quoteList\": [ }"));
+            assertEquals(0, corruptData.getQuoteList().getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Execution should not fail.";
+        }
+    }
+
+    @Test
+    public void deserialize_itemWithInvalidAmount_dropsOnlyItsQuote() {
+        String json = "{ \"quoteList\": { \"quotes\": [\n"
+                + "  { \"quoteName\": \"good\", \"customerName\": \"a\", \"items\": [\n"
+                + "    { \"itemName\": \"pen\", \"price\": 1.5, \"quantity\": 2, \"taxRate\": 9.0 } ] },\n"
+                + "  { \"quoteName\": \"bad\", \"customerName\": \"b\", \"items\": [\n"
+                + "    { \"itemName\": \"gold\", \"price\": 1e300, \"quantity\": 1, \"taxRate\": 0.0 } ] },\n"
+                + "  { \"quoteName\": \"other\", \"customerName\": \"c\", \"items\": [] } ] },\n"
+                + "  \"companyName\": { \"companyName\": \"Default\" } }";
+        JsonSerializer serializer = new JsonSerializer();
+
+        for (ApplicationData appData : new ApplicationData[] {
+            serializer.deserialize(json), serializer.deserialize(new StringReader(json))}) {
+            assertEquals(2, appData.getQuoteList().getQuotes().size());
+            assertEquals("good", appData.getQuoteList().getQuotes().get(0).getQuoteName());
+            assertEquals(150, appData.getQuoteList().getQuotes().get(0).getItems().get(0).getPriceCents());
+            assertEquals("other", appData.getQuoteList().getQuotes().get(1).getQuoteName());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.quotely.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PersistenceServiceTest {
+
+    @Test
+    public void append_thenFlush_entriesWrittenToJournal() {
+        try {
+            Path tempDir = Files.createTempDirectory("persistence");
+            Storage storage = new Storage(tempDir.toString(), "test.json");
+            Journal journal = new Journal(tempDir.toString(), "test.journal");
+            PersistenceService service = new PersistenceService(
+                    new JsonSnapshotStore(storage, new JsonSerializer()), journal);
+
+            for (int i = 0; i < 20; i++) {
+                service.append(JournalEntry.addQuote("quote" + i, "customer"));
+            }
+            assertEquals(20, service.getJournalLength());
+            service.flush();
+            service.shutdown();
+
+            assertNull(service.takeFailure());
+            assertEquals(20, Files.readAllLines(journal.getJournalFilePath()).size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void saveSnapshot_afterAppend_supersedesQueuedEntries() {
+        try {
+            Path tempDir = Files.createTempDirectory("persistence");
+            Storage storage = new Storage(tempDir.toString(), "test.json");
+            Journal journal = new Journal(tempDir.toString(), "test.journal");
+            PersistenceService service = new PersistenceService(
+                    new JsonSnapshotStore(storage, new JsonSerializer()), journal);
+
+            QuoteList quoteList = new QuoteList();
+            quoteList.addQuote(new Quote("quote1", "customer1"));
+            service.append(JournalEntry.addQuote("quote1", "customer1"));
+            service.saveSnapshot(new ApplicationData(quoteList.copy(), new CompanyName("Acme")));
+            assertEquals(0, service.getJournalLength());
+            service.append(JournalEntry.addQuote("quote2", "customer2"));
+            service.shutdown();
+
+            ApplicationData loaded = new JsonSerializer().deserialize(storage.loadData());
+            assertEquals("Acme", loaded.getCompanyName().getCompanyName());
+            assertEquals(1, loaded.getQuoteList().getQuotes().size());
+
+            // the entry queued after the snapshot survives in the journal and is replayed on load
+            assertEquals(1, new Journal(tempDir.toString(), "test.journal").replay(loaded));
+            assertEquals(2, loaded.getQuoteList().getQuotes().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.quotely.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.data.QuoteList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardedSnapshotStoreTest {
+
+    private static List<String> listShards(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(name -> !name.equals("manifest.json"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void save_thenLoad_roundTripKeepsOrder() {
+        try {
+            Path directory = Files.createTempDirectory("shards").resolve("quotes");
+            ShardedSnapshotStore store = new ShardedSnapshotStore(directory);
+            assertFalse(store.exists());
+
+            QuoteList quoteList = new QuoteList();
+            for (int i = 0; i < 20; i++) {
+                Quote quote = new Quote("quote" + i, "customer" + i);
+                quote.addItem("item" + i, i, 1, 0.0);
+                quoteList.addQuote(quote);
+            }
+            ApplicationData appData = new ApplicationData(quoteList, new CompanyName("Acme"));
+            appData.setJournalSequence(42);
+            store.save(appData);
+            assertTrue(store.exists());
+            assertEquals(20, listShards(directory).size());
+
+            ApplicationData loaded = new ShardedSnapshotStore(directory).load();
+            assertEquals("Acme", loaded.getCompanyName().getCompanyName());
+            assertEquals(42, loaded.getJournalSequence());
+            assertEquals(20, loaded.getQuoteList().getQuotes().size());
+            for (int i = 0; i < 20; i++) {
+                Quote quote = loaded.getQuoteList().getQuotes().get(i);
+                assertEquals("quote" + i, quote.getQuoteName());
+                assertEquals("item" + i, quote.getItems().get(0).getItemName());
+            }
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void save_oneQuoteChanged_rewritesOnlyThatShard() {
+        try {
+            Path directory = Files.createTempDirectory("shards").resolve("quotes");
+            ShardedSnapshotStore store = new ShardedSnapshotStore(directory);
+
+            QuoteList quoteList = new QuoteList();
+            Quote changed = new Quote("changed", "customer");
+            quoteList.addQuote(new Quote("untouched", "customer"));
+            quoteList.addQuote(changed);
+            quoteList.addQuote(new Quote("deleted", "customer"));
+            store.save(new ApplicationData(quoteList.copy(), new CompanyName("Acme")));
+            List<String> before = listShards(directory);
+
+            changed.addItem("item", 1.0, 1, 0.0);
+            quoteList.removeQuote(quoteList.getQuoteByName("deleted"));
+            store.save(new ApplicationData(quoteList.copy(), new CompanyName("Acme")));
+            List<String> after = listShards(directory);
+
+            assertEquals(2, after.size());
+            String untouchedId = ShardedSnapshotStore.getShardId("untouched");
+            String changedId = ShardedSnapshotStore.getShardId("changed");
+            assertEquals(findShard(before, untouchedId), findShard(after, untouchedId));
+            assertNotEquals(findShard(before, changedId), findShard(after, changedId));
+
+            ApplicationData loaded = new ShardedSnapshotStore(directory).load();
+            assertEquals(1, loaded.getQuoteList().getQuoteByName("changed").getItems().size());
+            assertFalse(loaded.getQuoteList().hasQuote("deleted"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void save_namesDifferingOnlyInCase_eachQuoteKept() {
+        try {
+            Path directory = Files.createTempDirectory("shards").resolve("quotes");
+            ShardedSnapshotStore store = new ShardedSnapshotStore(directory);
+
+            QuoteList quoteList = new QuoteList();
+            quoteList.addQuote(new Quote("quote a", "first"));
+            quoteList.addQuote(new Quote("Quote A", "second"));
+            store.save(new ApplicationData(quoteList, new CompanyName("Acme")));
+            assertEquals(2, listShards(directory).size());
+
+            ShardedSnapshotStore reopened = new ShardedSnapshotStore(directory);
+            ApplicationData loaded = reopened.load();
+            List<Quote> quotes = loaded.getQuoteList().getQuotes();
+            assertEquals(2, quotes.size());
+            assertEquals("first", quotes.get(0).getCustomerName());
+            assertEquals("second", quotes.get(1).getCustomerName());
+
+            // changing the second quote rewrites its own shard only
+            quotes.get(1).addItem("item", 1.0, 1, 0.0);
+            reopened.save(loaded);
+            assertEquals(2, listShards(directory).size());
+
+            List<Quote> reloaded = new ShardedSnapshotStore(directory).load().getQuoteList().getQuotes();
+            assertEquals("first", reloaded.get(0).getCustomerName());
+            assertEquals(0, reloaded.get(0).getItems().size());
+            assertEquals("second", reloaded.get(1).getCustomerName());
+            assertEquals(1, reloaded.get(1).getItems().size());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void getShardId_differentCase_sameId() {
+        assertEquals(ShardedSnapshotStore.getShardId("Quote A"), ShardedSnapshotStore.getShardId("quote a"));
+        assertNotEquals(ShardedSnapshotStore.getShardId("quote/a"), ShardedSnapshotStore.getShardId("quote a"));
+        assertTrue(ShardedSnapshotStore.getShardId("../x").matches("[a-z0-9_-]+"));
+    }
+
+    private static String findShard(List<String> shards, String shardId) {
+        return shards.stream().filter(name -> name.startsWith(shardId + ".")).findFirst().orElse(null);
+    }
+}
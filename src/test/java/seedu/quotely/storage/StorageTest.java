@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Test;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import java.io.BufferedReader;
+import java.util.stream.Collectors;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -98,5 +101,25 @@ public class StorageTest {
             assert false : "Exception should not be thrown";
         }
     }
-}
 
+    @Test
+    public void writeData_thenReadData_roundTrip() {
+        try {
+            Path tempFile = Files.createTempFile("test", ".txt");
+            Storage storage = new Storage(tempFile.getParent().toString(), tempFile.getFileName().toString());
+
+            storage.writeData(writer -> writer.write(testJson));
+            assertEquals(testJson, Files.readString(tempFile));
+
+            Storage.DataReader<String> readAll = reader -> new BufferedReader(reader).lines()
+                    .collect(Collectors.joining("\n"));
+            assertEquals(testJson, storage.readData(readAll));
+
+            //a missing file is read as empty
+            Files.deleteIfExists(tempFile);
+            assertEquals("", storage.readData(readAll));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+}
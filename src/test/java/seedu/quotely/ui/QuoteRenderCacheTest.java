@@ -0,0 +1,84 @@
+package seedu.quotely.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.exception.QuotelyException;
+
+public class QuoteRenderCacheTest {
+
+    private static String render(CompanyName companyName, Quote q) {
+        StringBuilder sb = new StringBuilder();
+        new QuoteRenderer().render(sb, companyName, q);
+        return sb.toString();
+    }
+
+    @Test
+    public void get_unchangedQuote_reusesRenderedText() {
+        QuoteRenderCache cache = new QuoteRenderCache(new QuoteRenderer());
+        CompanyName companyName = new CompanyName("Default");
+        Quote quote = new Quote("q1", "Alice");
+        quote.addItem("pen", 1.5, 2, 0);
+
+        String first = cache.get(companyName, quote);
+        assertEquals(render(companyName, quote), first);
+        assertSame(first, cache.get(companyName, quote));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_itemsChanged_rendersAgain() {
+        QuoteRenderCache cache = new QuoteRenderCache(new QuoteRenderer());
+        CompanyName companyName = new CompanyName("Default");
+        Quote quote = new Quote("q1", "Alice");
+        String empty = cache.get(companyName, quote);
+
+        quote.addItem("pen", 1.5, 2, 0);
+        String withPen = cache.get(companyName, quote);
+        assertNotSame(empty, withPen);
+        assertTrue(withPen.contains("pen"));
+
+        try {
+            quote.removeItem("pen");
+        } catch (QuotelyException e) {
+            assert false : "Exception should not be thrown";
+        }
+        assertEquals(render(companyName, quote), cache.get(companyName, quote));
+
+        quote.addItem("desk", 100, 1, 9);
+        quote.getItems().get(0).setQuantity(3);
+        assertEquals(render(companyName, quote), cache.get(companyName, quote));
+    }
+
+    @Test
+    public void get_companyRenamed_rendersAgain() {
+        QuoteRenderCache cache = new QuoteRenderCache(new QuoteRenderer());
+        CompanyName companyName = new CompanyName("Default");
+        Quote quote = new Quote("q1", "Alice");
+        cache.get(companyName, quote);
+
+        companyName.setCompanyName("ACME Pte Ltd");
+        assertTrue(cache.get(companyName, quote).contains("Company name: ACME Pte Ltd"));
+        assertTrue(cache.get(new CompanyName("Other"), quote).contains("Company name: Other"));
+    }
+
+    @Test
+    public void get_copiesWithSameVersion_keptApart() {
+        QuoteRenderCache cache = new QuoteRenderCache(new QuoteRenderer());
+        CompanyName companyName = new CompanyName("Default");
+        Quote quote = new Quote("q1", "Alice");
+        quote.addItem("pen", 1.5, 2, 0);
+        Quote copy = quote.copy();
+        assertEquals(quote.getVersion(), copy.getVersion());
+
+        assertEquals(render(companyName, quote), cache.get(companyName, quote));
+        assertEquals(render(companyName, copy), cache.get(companyName, copy));
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.quotely.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Item;
+import seedu.quotely.data.Money;
+import seedu.quotely.data.Quote;
+
+public class QuoteRendererTest {
+
+    /**
+     * Renders the quote with String.format, the way Ui.showQuote used to, as the expected layout.
+     */
+    private static String renderWithFormat(CompanyName companyName, Quote q) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%s%n", "_".repeat(29) + "QUOTE" + "_".repeat(30)));
+        sb.append(String.format("| %-60s |%n", "Company name: " + companyName.getCompanyName()));
+        sb.append(String.format("| %-60s |%n", "Quote ID: " + q.getQuoteName()));
+        sb.append(String.format("| %-60s |%n", "Customer name: " + q.getCustomerName()));
+        sb.append(String.format("|%s|%n", "-".repeat(62)));
+        sb.append(String.format("| %-30s | %3s | %10s | %8s |%n", "Description", "QTY", "Unit cost", "Tax Rate"));
+        sb.append(String.format("|%s|%n", "-".repeat(62)));
+        if (q.getItems().isEmpty()) {
+            sb.append(String.format("| %-30s | %3s | %10s | %8s |%n", "(no items)", "-", "-", "-"));
+        }
+        for (Item it : q.getItems()) {
+            String name = it.getItemName().length() > 30 ? it.getItemName().substring(0, 30) : it.getItemName();
+            sb.append(String.format("| %-30s | %3d | $%9s | %7s %%|%n", name, it.getQuantity(),
+                    Money.format(it.getPriceCents()), Money.formatPercent(it.getTaxRateBasisPoints())));
+        }
+        sb.append(String.format("|%s|%n", "-".repeat(62)));
+        sb.append(String.format("| %-60s |%n", ""));
+        sb.append(String.format("| %34s%-10s %-15s |%n", "", "Subtotal:", "$" + Money.format(q.getSubtotalCents())));
+        sb.append(String.format("| %34s%-10s %-15s |%n", "", "GST:", "$" + Money.format(q.getTaxCents())));
+        sb.append(String.format("| %34s%-10s %-15s |%n", "", "Total:", "$" + Money.format(q.getTotalCents())));
+        sb.append(String.format("|%s|%n", "_".repeat(62)));
+        return sb.toString();
+    }
+
+    private static String render(CompanyName companyName, Quote q) {
+        StringBuilder sb = new StringBuilder();
+        new QuoteRenderer().render(sb, companyName, q);
+        return sb.toString();
+    }
+
+    @Test
+    public void render_noItems_matchesFormattedLayout() {
+        CompanyName companyName = new CompanyName("Default");
+        Quote quote = new Quote("q1", "Alice");
+        assertEquals(renderWithFormat(companyName, quote), render(companyName, quote));
+    }
+
+    @Test
+    public void render_items_matchesFormattedLayout() {
+        CompanyName companyName = new CompanyName("ACME Pte Ltd");
+        Quote quote = new Quote("Office refit", "Bob & Co");
+        quote.addItem("pen", 1.5, 2, 0);
+        quote.addItem("desk", 120.05, 1, 9);
+        quote.addItem("a name longer than the thirty character column", 0.01, 999, 200);
+        quote.addItem("chair", 9999.99, 35, 7.25);
+        assertEquals(renderWithFormat(companyName, quote), render(companyName, quote));
+    }
+
+    @Test
+    public void render_longNames_overflowLikeFormattedLayout() {
+        CompanyName companyName = new CompanyName("A company name long enough to push past the box");
+        Quote quote = new Quote("An extremely long quote name that overflows the box width", "C");
+        quote.addItem("big", 9999.99, 999, 200);
+        assertEquals(renderWithFormat(companyName, quote), render(companyName, quote));
+    }
+
+    @Test
+    public void render_reusedBuilder_appendsEachQuote() {
+        CompanyName companyName = new CompanyName("Default");
+        Quote first = new Quote("q1", "Alice");
+        Quote second = new Quote("q2", "Bob");
+        second.addItem("pen", 1.5, 2, 0);
+
+        QuoteRenderer renderer = new QuoteRenderer();
+        StringBuilder sb = new StringBuilder();
+        renderer.render(sb, companyName, first);
+        renderer.render(sb, companyName, second);
+        assertEquals(renderWithFormat(companyName, first) + renderWithFormat(companyName, second), sb.toString());
+    }
+
+    @Test
+    public void renderSummary_quote_oneLineWithItemCountAndTotal() {
+        Quote quote = new Quote("Office refit", "Bob");
+        quote.addItem("desk", 100, 1, 9);
+        quote.addItem("pen", 1.5, 2, 0);
+        StringBuilder sb = new StringBuilder();
+        new QuoteRenderer().renderSummary(sb, 12, quote);
+        assertEquals("12. Office refit for Bob - 2 items, total $112.00" + System.lineSeparator(), sb.toString());
+    }
+}
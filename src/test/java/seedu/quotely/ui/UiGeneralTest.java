@@ -1,5 +1,6 @@
 package seedu.quotely.ui;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
@@ -19,6 +20,8 @@ public class UiGeneralTest {
 
     @BeforeEach
     void setUp() {
+        // write out anything earlier tests left in the buffer before capturing
+        Ui.getInstance().flush();
         out = new ByteArrayOutputStream();
         System.setOut(new PrintStream(out));
     }
@@ -32,6 +35,7 @@ public class UiGeneralTest {
     public void showWelcome_printsLogoAndPrompt() {
         try {
             Ui.getInstance().showWelcome();
+            Ui.getInstance().flush();
             String s = out.toString();
             assertTrue(s.contains("Hello from"));
             assertTrue(s.contains("What can I do for you?"));
@@ -45,6 +49,7 @@ public class UiGeneralTest {
     public void showLine_printsSeparator() {
         try {
             Ui.getInstance().showLine();
+            Ui.getInstance().flush();
             assertTrue(out.toString().contains("____________________________________________________________"));
         } catch (Exception e) {
             assert false : "Exception should not be thrown";
@@ -55,6 +60,7 @@ public class UiGeneralTest {
     public void showExitMessage_printsGoodbye() {
         try {
             Ui.getInstance().showExitMessage();
+            Ui.getInstance().flush();
             assertTrue(out.toString().contains("Bye. Hope to see you again soon!"));
         } catch (Exception e) {
             assert false : "Exception should not be thrown";
@@ -65,6 +71,7 @@ public class UiGeneralTest {
     public void showError_printsErrorPrefix() {
         try {
             Ui.getInstance().showError("oops");
+            Ui.getInstance().flush();
             assertTrue(out.toString().contains("Error: oops"));
         } catch (Exception e) {
             assert false : "Exception should not be thrown";
@@ -75,6 +82,7 @@ public class UiGeneralTest {
     public void showMessage_printsRawMessage() {
         try {
             Ui.getInstance().showMessage("hello there");
+            Ui.getInstance().flush();
             assertTrue(out.toString().contains("hello there"));
         } catch (Exception e) {
             assert false : "Exception should not be thrown";
@@ -85,9 +93,36 @@ public class UiGeneralTest {
     public void promptCompanyName_printsPrompt() {
         try {
             Ui.getInstance().promptCompanyName();
+            Ui.getInstance().flush();
             assertTrue(out.toString().contains("Please enter your company name:"));
         } catch (Exception e) {
             assert false : "Exception should not be thrown";
         }
     }
+
+    @Test
+    public void showMessage_beforeFlush_notWrittenYet() {
+        try {
+            Ui.getInstance().showMessage("held back");
+            assertFalse(out.toString().contains("held back"));
+            Ui.getInstance().flush();
+            assertTrue(out.toString().contains("held back"));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void showMessage_largeOutput_writtenBeforeFlush() {
+        try {
+            String row = "x".repeat(1000);
+            for (int i = 0; i < 100; i++) {
+                Ui.getInstance().showMessage(row);
+            }
+            assertTrue(out.toString().contains(row));
+            Ui.getInstance().flush();
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
 }
@@ -22,6 +22,8 @@ public class UiShowQuoteTest {
 
     @BeforeEach
     void setUp() {
+        // write out anything earlier tests left in the buffer before capturing
+        Ui.getInstance().flush();
         out = new ByteArrayOutputStream();
         System.setOut(new PrintStream(out));
     }
@@ -37,6 +39,8 @@ public class UiShowQuoteTest {
         Quote quote = new Quote("Q-0001", "John Doe");
 
         Ui.getInstance().showQuote(company, quote);
+
+        Ui.getInstance().flush();
         String output = out.toString();
 
         // Verify header
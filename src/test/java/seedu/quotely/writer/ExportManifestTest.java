@@ -0,0 +1,63 @@
+package seedu.quotely.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+public class ExportManifestTest {
+
+    @Test
+    public void isUpToDate_recordedHashAndExistingFile_true() throws IOException {
+        Path directory = Files.createTempDirectory("manifest");
+        Files.writeString(directory.resolve("a b.pdf"), "%PDF");
+        ExportManifest manifest = ExportManifest.load(directory);
+        assertFalse(manifest.isUpToDate("a b.pdf", "1234"));
+
+        manifest.record("a b.pdf", "1234");
+        assertTrue(manifest.isUpToDate("a b.pdf", "1234"));
+        assertFalse(manifest.isUpToDate("a b.pdf", "5678"));
+        // the file name may contain spaces, which survive a reload
+        assertTrue(ExportManifest.load(directory).isUpToDate("a b.pdf", "1234"));
+    }
+
+    @Test
+    public void isUpToDate_deletedFile_false() throws IOException {
+        Path directory = Files.createTempDirectory("manifest");
+        ExportManifest manifest = ExportManifest.load(directory);
+        manifest.record("gone.pdf", "1234");
+        assertFalse(manifest.isUpToDate("gone.pdf", "1234"));
+    }
+
+    @Test
+    public void forget_recordedFile_notUpToDateAfterReload() throws IOException {
+        Path directory = Files.createTempDirectory("manifest");
+        Files.writeString(directory.resolve("a.pdf"), "%PDF");
+        ExportManifest manifest = ExportManifest.load(directory);
+        manifest.record("a.pdf", "1234");
+        manifest.forget("a.pdf");
+        assertFalse(manifest.isUpToDate("a.pdf", "1234"));
+        assertFalse(ExportManifest.load(directory).isUpToDate("a.pdf", "1234"));
+    }
+
+    @Test
+    public void load_manySupersededLines_compactsFile() throws IOException {
+        Path directory = Files.createTempDirectory("manifest");
+        Files.writeString(directory.resolve("a.pdf"), "%PDF");
+        ExportManifest manifest = ExportManifest.load(directory);
+        for (int i = 0; i < 10; i++) {
+            manifest.record("a.pdf", "hash" + i);
+        }
+        Path file = directory.resolve(ExportManifest.FILE_NAME);
+        assertEquals(10, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+
+        assertTrue(ExportManifest.load(directory).isUpToDate("a.pdf", "hash9"));
+        assertEquals(1, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    }
+}
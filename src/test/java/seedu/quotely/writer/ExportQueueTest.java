@@ -0,0 +1,129 @@
+package seedu.quotely.writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+
+public class ExportQueueTest {
+
+    @Test
+    public void submit_quote_writesFileInBackground() throws IOException {
+        Path directory = Files.createTempDirectory("exports");
+        ExportQueue queue = new ExportQueue();
+        Quote quote = new Quote("quote1", "customer1");
+        quote.addItem("pen", 1.5, 2, 9);
+
+        ExportJob job = queue.submit(quote, new CompanyName("default"), directory.resolve("quote1.pdf").toFile(),
+                false);
+        queue.awaitIdle();
+
+        assertEquals(ExportJob.Status.DONE, job.getStatus());
+        assertTrue(Files.size(directory.resolve("quote1.pdf")) > 0);
+        assertTrue(job.getWaitMillis() >= 0 && job.getRunMillis() >= 0);
+    }
+
+    @Test
+    public void submit_unchangedQuote_skippedUnlessForced() throws IOException {
+        Path directory = Files.createTempDirectory("exports");
+        ExportQueue queue = new ExportQueue();
+        Quote quote = new Quote("quote1", "customer1");
+        CompanyName companyName = new CompanyName("default");
+        File file = directory.resolve("quote1.pdf").toFile();
+
+        ExportJob first = queue.submit(quote, companyName, file, false);
+        ExportJob again = queue.submit(quote, companyName, file, false);
+        ExportJob forced = queue.submit(quote, companyName, file, true);
+        queue.awaitIdle();
+
+        assertEquals(ExportJob.Status.DONE, first.getStatus());
+        assertEquals(ExportJob.Status.SKIPPED, again.getStatus());
+        assertEquals(ExportJob.Status.DONE, forced.getStatus());
+    }
+
+    @Test
+    public void submit_quoteChangedAfterwards_jobKeepsQueuedName() throws IOException {
+        Path directory = Files.createTempDirectory("exports");
+        ExportQueue queue = new ExportQueue();
+        Quote quote = new Quote("quote1", "customer1");
+        CompanyName companyName = new CompanyName("default");
+
+        ExportJob job = queue.submit(quote, companyName, directory.resolve("quote1.pdf").toFile(), false);
+        // the job works on copies, so editing the originals cannot affect it
+        quote.addItem("pen", 1.5, 2, 9);
+        companyName.setCompanyName("renamed");
+        queue.awaitIdle();
+
+        assertEquals("quote1", job.getName());
+        assertEquals(ExportJob.Status.DONE, job.getStatus());
+    }
+
+    @Test
+    public void submit_unwritableFile_jobFails() throws IOException {
+        Path directory = Files.createTempDirectory("exports");
+        // a directory in the way of the PDF makes the export fail
+        Files.createDirectory(directory.resolve("bad.pdf"));
+        ExportQueue queue = new ExportQueue();
+
+        ExportJob job = queue.submit(new Quote("bad", "b"), new CompanyName("default"),
+                directory.resolve("bad.pdf").toFile(), false);
+        ExportJob next = queue.submit(new Quote("good", "g"), new CompanyName("default"),
+                directory.resolve("good.pdf").toFile(), false);
+        queue.awaitIdle();
+
+        assertEquals(ExportJob.Status.FAILED, job.getStatus());
+        assertNotNull(job.getFailure());
+        assertEquals(ExportJob.Status.DONE, next.getStatus());
+    }
+
+    @Test
+    public void submitReport_quotes_writesOneFileFromCopies() throws IOException {
+        Path directory = Files.createTempDirectory("exports");
+        ExportQueue queue = new ExportQueue();
+        Quote first = new Quote("quote1", "customer1");
+        Quote second = new Quote("quote2", "customer2");
+        CompanyName companyName = new CompanyName("default");
+        File file = directory.resolve("report.pdf").toFile();
+
+        ExportJob job = queue.submitReport(List.of(first, second), companyName, file, false);
+        // the job works on copies, so editing the originals cannot affect it
+        second.addItem("pen", 1.5, 2, 9);
+        queue.awaitIdle();
+
+        assertEquals("report of 2 quotes", job.getName());
+        assertEquals(ExportJob.Status.DONE, job.getStatus());
+        assertTrue(Files.size(file.toPath()) > 0);
+
+        // the edited quote no longer matches the exported report
+        ExportJob again = queue.submitReport(List.of(first, second), companyName, file, false);
+        queue.awaitIdle();
+        assertEquals(ExportJob.Status.DONE, again.getStatus());
+    }
+
+    @Test
+    public void getJobs_manyFinishedJobs_keepsMostRecent() throws IOException {
+        Path directory = Files.createTempDirectory("exports");
+        ExportQueue queue = new ExportQueue();
+        int total = ExportQueue.MAX_FINISHED_JOBS + 10;
+        for (int i = 1; i <= total; i++) {
+            queue.submit(new Quote("quote" + i, "c"), new CompanyName("default"),
+                    directory.resolve("quote" + i + ".pdf").toFile(), false);
+        }
+        queue.awaitIdle();
+
+        List<ExportJob> jobs = queue.getJobs();
+        assertEquals(ExportQueue.MAX_FINISHED_JOBS, jobs.size());
+        assertEquals(total, jobs.get(jobs.size() - 1).getId());
+        assertEquals(11, jobs.get(0).getId());
+    }
+}
@@ -0,0 +1,279 @@
+package seedu.quotely.writer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+
+import seedu.quotely.data.CompanyName;
+import seedu.quotely.data.Quote;
+import seedu.quotely.exception.QuotelyException;
+
+public class PDFWriterTest {
+
+    @Test
+    public void getContentHash_sameContent_sameHash() {
+        PDFWriter pdfWriter = PDFWriter.getInstance();
+        Quote quote = new Quote("q1", "Alice");
+        quote.addItem("pen", 1.5, 2, 9);
+        Quote copy = quote.copy();
+        assertEquals(pdfWriter.getContentHash(quote, new CompanyName("ACME")),
+                pdfWriter.getContentHash(copy, new CompanyName("ACME")));
+    }
+
+    @Test
+    public void getContentHash_changedContent_differentHash() {
+        PDFWriter pdfWriter = PDFWriter.getInstance();
+        Quote quote = new Quote("q1", "Alice");
+        quote.addItem("pen", 1.5, 2, 9);
+        String hash = pdfWriter.getContentHash(quote, new CompanyName("ACME"));
+
+        assertNotEquals(hash, pdfWriter.getContentHash(quote, new CompanyName("ACME Pte Ltd")));
+        quote.getItems().get(0).setQuantity(3);
+        assertNotEquals(hash, pdfWriter.getContentHash(quote, new CompanyName("ACME")));
+        // moving text between fields must not give the same hash
+        assertNotEquals(pdfWriter.getContentHash(new Quote("ab", "c"), new CompanyName("x")),
+                pdfWriter.getContentHash(new Quote("a", "bc"), new CompanyName("x")));
+    }
+
+    @Test
+    public void exportQuote_unchangedQuote_skippedUnlessForced() {
+        try {
+            Path directory = Files.createTempDirectory("pdf");
+            File file = directory.resolve("q1.pdf").toFile();
+            PDFWriter pdfWriter = PDFWriter.getInstance();
+            Quote quote = new Quote("q1", "Alice");
+            CompanyName companyName = new CompanyName("ACME");
+
+            assertTrue(pdfWriter.exportQuote(quote, companyName, file, false));
+            assertFalse(pdfWriter.exportQuote(quote, companyName, file, false));
+            assertTrue(pdfWriter.exportQuote(quote, companyName, file, true));
+
+            quote.addItem("pen", 1.5, 2, 9);
+            assertTrue(pdfWriter.exportQuote(quote, companyName, file, false));
+
+            // a deleted PDF is written again
+            Files.delete(file.toPath());
+            assertTrue(pdfWriter.exportQuote(quote, companyName, file, false));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void exportQuote_sameFileFromManyThreads_writesOneWholeQuote() {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Path directory = Files.createTempDirectory("pdf");
+            File file = directory.resolve("shared.pdf").toFile();
+            PDFWriter pdfWriter = PDFWriter.getInstance();
+            CompanyName companyName = new CompanyName("ACME");
+            List<Quote> quotes = new ArrayList<>();
+            List<Future<Boolean>> exports = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                Quote quote = new Quote("shared", "customer" + i);
+                for (int j = 0; j < 2000; j++) {
+                    quote.addItem("item" + j, 1 + i, 1, 9);
+                }
+                quotes.add(quote);
+                exports.add(pool.submit(() -> pdfWriter.exportQuote(quote, companyName, file, true)));
+            }
+            for (Future<Boolean> export : exports) {
+                assertTrue(export.get());
+            }
+
+            // the file is one whole PDF and the manifest holds the hash of the quote that was written last
+            assertTrue(new PdfReader(file.getPath()).getNumberOfPages() > 1);
+            ExportManifest manifest = ExportManifest.load(directory);
+            int upToDate = 0;
+            for (Quote quote : quotes) {
+                if (manifest.isUpToDate("shared.pdf", pdfWriter.getContentHash(quote, companyName))) {
+                    upToDate++;
+                }
+            }
+            assertEquals(1, upToDate);
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void writeQuote_outputStream_writesAndLeavesStreamOpen() {
+        boolean[] isClosed = {false};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                isClosed[0] = true;
+            }
+        };
+        Quote quote = new Quote("q1", "Alice");
+        quote.addItem("pen", 1.5, 2, 9);
+        try {
+            PDFWriter.getInstance().writeQuote(quote, new CompanyName("ACME"), bytes);
+        } catch (QuotelyException e) {
+            assert false : "Exception should not be thrown";
+        }
+        assertTrue(bytes.size() > 0);
+        assertFalse(isClosed[0]);
+    }
+
+    @Test
+    public void writeQuote_failingStream_throwsQuotelyException() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        QuotelyException e = assertThrows(QuotelyException.class,
+                () -> PDFWriter.getInstance().writeQuote(new Quote("q1", "Alice"), new CompanyName("ACME"), broken));
+        assertEquals(QuotelyException.ErrorType.EXPORT_FAILED, e.getErrorType());
+    }
+
+    @Test
+    public void exportQuote_directoryInTheWay_throwsQuotelyException() throws IOException {
+        Path directory = Files.createTempDirectory("pdf");
+        Files.createDirectory(directory.resolve("q1.pdf"));
+        QuotelyException e = assertThrows(QuotelyException.class,
+                () -> PDFWriter.getInstance().exportQuote(new Quote("q1", "Alice"), new CompanyName("ACME"),
+                        directory.resolve("q1.pdf").toFile(), false));
+        assertEquals(QuotelyException.ErrorType.EXPORT_FAILED, e.getErrorType());
+    }
+
+    @Test
+    public void writeQuote_itemsAcrossManyChunks_success() {
+        PDFWriter pdfWriter = PDFWriter.getInstance();
+        for (int count : new int[] {PDFWriter.ROWS_PER_CHUNK, PDFWriter.ROWS_PER_CHUNK + 1, 5000}) {
+            Quote quote = new Quote("big", "Alice");
+            for (int i = 0; i < count; i++) {
+                quote.addItem("item" + i, 1.25, 1 + i % 999, 9);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try {
+                pdfWriter.writeQuote(quote, new CompanyName("ACME"), bytes);
+                PdfReader reader = new PdfReader(bytes.toByteArray());
+                // a page holds a few dozen rows
+                assertTrue(reader.getNumberOfPages() >= count / 60);
+                assertTrue(new PdfTextExtractor(reader).getTextFromPage(reader.getNumberOfPages())
+                        .contains("item" + (count - 1)));
+            } catch (QuotelyException | IOException e) {
+                assert false : "Exception should not be thrown";
+            }
+        }
+    }
+
+    @Test
+    public void writeQuote_chunkEndingAnywhereOnPage_headerOnEveryPage() {
+        PDFWriter pdfWriter = PDFWriter.getInstance();
+        // a first item of one to many lines moves where each chunk of rows ends on the page
+        for (int lines = 1; lines <= 30; lines++) {
+            Quote quote = new Quote("big", "Alice");
+            quote.addItem("first" + "\nmore".repeat(lines - 1), 1.25, 1, 9);
+            for (int i = 1; i < 3 * PDFWriter.ROWS_PER_CHUNK; i++) {
+                quote.addItem("item" + i, 1.25, 1, 9);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try {
+                pdfWriter.writeQuote(quote, new CompanyName("ACME"), bytes);
+                PdfReader reader = new PdfReader(bytes.toByteArray());
+                PdfTextExtractor extractor = new PdfTextExtractor(reader);
+                assertTrue(reader.getNumberOfPages() > 1);
+                for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+                    String text = extractor.getTextFromPage(page);
+                    if (text.contains("item")) {
+                        assertTrue(text.contains("Description"), "No header on page " + page + " with " + lines);
+                    }
+                }
+            } catch (QuotelyException | IOException e) {
+                assert false : "Exception should not be thrown";
+            }
+        }
+    }
+
+    @Test
+    public void writeReport_manyQuotes_writesOneDocument() {
+        List<Quote> quotes = new ArrayList<>();
+        for (int i = 0; i <= PDFWriter.ROWS_PER_CHUNK; i++) {
+            Quote quote = new Quote("quote" + i, "customer" + i);
+            quote.addItem("pen", 1.5, 1 + i, 9);
+            quotes.add(quote);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            PDFWriter.getInstance().writeReport(quotes, new CompanyName("ACME"), bytes);
+        } catch (QuotelyException e) {
+            assert false : "Exception should not be thrown";
+        }
+        assertTrue(bytes.size() > 0);
+    }
+
+    @Test
+    public void exportReport_unchangedQuotes_skippedUnlessForced() {
+        try {
+            Path directory = Files.createTempDirectory("pdf");
+            File file = directory.resolve("report.pdf").toFile();
+            PDFWriter pdfWriter = PDFWriter.getInstance();
+            Quote first = new Quote("q1", "Alice");
+            Quote second = new Quote("q2", "Bob");
+            CompanyName companyName = new CompanyName("ACME");
+
+            assertTrue(pdfWriter.exportReport(List.of(first, second), companyName, file, false));
+            assertTrue(Files.size(file.toPath()) > 0);
+            assertFalse(pdfWriter.exportReport(List.of(first, second), companyName, file, false));
+            assertTrue(pdfWriter.exportReport(List.of(first, second), companyName, file, true));
+
+            // a changed quote or a different selection writes the report again
+            second.addItem("pen", 1.5, 2, 9);
+            assertTrue(pdfWriter.exportReport(List.of(first, second), companyName, file, false));
+            assertTrue(pdfWriter.exportReport(List.of(first), companyName, file, false));
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+
+    @Test
+    public void exportQuote_failedForcedExport_previousFileKept() {
+        try {
+            Path directory = Files.createTempDirectory("pdf");
+            File file = directory.resolve("q1.pdf").toFile();
+            PDFWriter pdfWriter = PDFWriter.getInstance();
+            Quote quote = new Quote("q1", "Alice");
+            CompanyName companyName = new CompanyName("ACME");
+            assertTrue(pdfWriter.exportQuote(quote, companyName, file, false));
+            byte[] exported = Files.readAllBytes(file.toPath());
+
+            // a directory in the way of the temporary file makes the next export fail before the move
+            Files.createDirectory(directory.resolve("q1.pdf.tmp"));
+            quote.addItem("pen", 1.5, 2, 9);
+            assertThrows(QuotelyException.class, () -> pdfWriter.exportQuote(quote, companyName, file, true));
+            assertArrayEquals(exported, Files.readAllBytes(file.toPath()));
+
+            assertTrue(pdfWriter.exportQuote(quote, companyName, file, false));
+            assertFalse(Files.exists(directory.resolve("q1.pdf.tmp")));
+            assertEquals(1, new PdfReader(file.getPath()).getNumberOfPages());
+        } catch (Exception e) {
+            assert false : "Exception should not be thrown";
+        }
+    }
+}